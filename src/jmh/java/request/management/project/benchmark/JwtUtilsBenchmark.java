@@ -0,0 +1,74 @@
+package request.management.project.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import request.management.project.model.User;
+import request.management.project.model.UserType;
+import request.management.project.security.jwt.JwtUtils;
+import request.management.project.security.jwt.JwtValidationResult;
+import request.management.project.security.services.UserDetailsImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+    private static final String SECRET = "818cd42d7c6591cb82c74d27ca9e1d250cca8c7c1d82ff5c6809852284df4cf6a2250961588c8d8c53f24c863c0d31ea96c0e91af6d7cd127461def7174fb03b";
+
+    private JwtUtils jwtUtils;
+
+    private String token;
+
+    private UsernamePasswordAuthenticationToken authentication;
+
+    @Setup
+    public void setup() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3600000);
+        jwtUtils.init();
+
+        var user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+        user.setPassword("password");
+        user.setUserType(UserType.TEACHER);
+
+        var userDetails = UserDetailsImpl.build(user);
+
+        authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String rebuildKeyAndParseTwice() {
+        Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token);
+
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload().getSubject();
+    }
+
+    @Benchmark
+    public JwtValidationResult parseAndValidate() {
+        return jwtUtils.parseAndValidate(token);
+    }
+}
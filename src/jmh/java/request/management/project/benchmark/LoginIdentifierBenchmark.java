@@ -0,0 +1,39 @@
+package request.management.project.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import request.management.project.model.LoginIdentifier;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginIdentifierBenchmark {
+    private static final String CPF_REGEX = "^(\\d{11})$";
+    private static final String CPF_WITH_SYMBOLS_REGEX = "^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2})$";
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$";
+
+    @Param({"12345678909", "123.456.789-09", "some.user@email.com", "username"})
+    private String auth;
+
+    @Benchmark
+    public String regexCascade() {
+        if (auth.matches(CPF_REGEX)) {
+            return LoginIdentifier.formatCpf(auth);
+        } else if (auth.matches(CPF_WITH_SYMBOLS_REGEX)) {
+            return auth;
+        } else if (auth.matches(EMAIL_REGEX)) {
+            return auth;
+        } else {
+            return auth;
+        }
+    }
+
+    @Benchmark
+    public LoginIdentifier classify() {
+        return LoginIdentifier.classify(auth);
+    }
+}
@@ -0,0 +1,116 @@
+package request.management.project.benchmark;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import request.management.project.dto.RequestDto;
+import request.management.project.dto.UserDto;
+import request.management.project.mapper.RequestMapper;
+import request.management.project.mapper.RequestMapperImpl;
+import request.management.project.mapper.UserMapper;
+import request.management.project.mapper.UserMapperImpl;
+import request.management.project.model.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private ModelMapper modelMapper;
+
+    private RequestMapper requestMapper;
+
+    private UserMapper userMapper;
+
+    private Request request;
+
+    private RequestDto requestDto;
+
+    private User user;
+
+    private UserDto userDto;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        requestMapper = new RequestMapperImpl();
+        userMapper = new UserMapperImpl();
+        ReflectionTestUtils.setField(userMapper, "requestMapper", requestMapper);
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+        user.setCpf("000.000.000-00");
+        user.setEmail("user@email.com");
+        user.setRegistrationNumber("000000");
+        user.setName("User");
+        user.setPassword("password");
+        user.setBirthDate(LocalDate.of(2000, 1, 1));
+        user.setGender(Gender.NON_SPECIFICATION);
+        user.setUserType(UserType.TEACHER);
+        user.setRequests(new ArrayList<>());
+
+        request = new Request();
+        request.setId(1L);
+        request.setArea("area");
+        request.setRequestType(RequestType.POSTGRADUATE);
+        request.setWorkload(10);
+        request.setTotalCost(100F);
+        request.setRequestStatus(RequestStatus.CREATED);
+        request.setRequestDate(LocalDateTime.now());
+        request.setOwner(user);
+
+        for (int i = 0; i < 10; i++)
+            user.getRequests().add(request);
+
+        requestDto = requestMapper.toDto(request);
+        userDto = userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public RequestDto modelMapperRequestToDto() {
+        return modelMapper.map(request, RequestDto.class);
+    }
+
+    @Benchmark
+    public RequestDto generatedRequestToDto() {
+        return requestMapper.toDto(request);
+    }
+
+    @Benchmark
+    public Request modelMapperRequestToEntity() {
+        return modelMapper.map(requestDto, Request.class);
+    }
+
+    @Benchmark
+    public Request generatedRequestToEntity() {
+        return requestMapper.toEntity(requestDto);
+    }
+
+    @Benchmark
+    public UserDto modelMapperUserToDto() {
+        return modelMapper.map(user, UserDto.class);
+    }
+
+    @Benchmark
+    public UserDto generatedUserToDto() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public User modelMapperUserToEntity() {
+        return modelMapper.map(userDto, User.class);
+    }
+
+    @Benchmark
+    public User generatedUserToEntity() {
+        return userMapper.toEntity(userDto);
+    }
+}
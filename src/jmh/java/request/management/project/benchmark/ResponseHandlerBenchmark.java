@@ -0,0 +1,73 @@
+package request.management.project.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import request.management.project.dto.RequestDto;
+import request.management.project.model.EnumMessage;
+import request.management.project.model.RequestStatus;
+import request.management.project.model.RequestType;
+import request.management.project.response.ResponseHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseHandlerBenchmark {
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<RequestDto> requests;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        requests = new ArrayList<>(size);
+
+        for (long i = 0; i < size; i++) {
+            var request = new RequestDto();
+            request.setId(i);
+            request.setArea("area");
+            request.setRequestType(RequestType.POSTGRADUATE);
+            request.setWorkload(10);
+            request.setTotalCost(100F);
+            request.setRequestStatus(RequestStatus.CREATED);
+            request.setRequestDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+            request.setOwnerId(1L);
+
+            requests.add(request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<?> generateResponse() {
+        return ResponseHandler.generateResponse(ResponseEntity.ok(requests), EnumMessage.GET_MESSAGE.message());
+    }
+
+    @Benchmark
+    public byte[] generateAndSerializeResponse() throws JsonProcessingException {
+        var response = ResponseHandler.generateResponse(ResponseEntity.ok(requests), EnumMessage.GET_MESSAGE.message());
+
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public byte[] serializeRequests() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(requests);
+    }
+}
@@ -0,0 +1,50 @@
+package request.management.project.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+public class ApiLoadTest extends LoadTestSupport {
+    @Test
+    void login() throws Exception {
+        var logins = new ArrayList<Supplier<HttpRequest>>();
+
+        for (var teacher : teachers) {
+            var body = "{\"auth\":\"" + teacher.getUsername() + "\",\"password\":\"" + PASSWORD + "\"}";
+            logins.add(() -> request("auth/login", null).POST(HttpRequest.BodyPublishers.ofString(body)).build());
+        }
+
+        runAndAssert("login", rotating(logins));
+    }
+
+    @Test
+    void list() throws Exception {
+        runAndAssert("list", () -> request("requests?size=50", technicianToken).GET().build());
+    }
+
+    @Test
+    void filter() throws Exception {
+        runAndAssert("filter", () -> request("requests/filter?status=CREATED,APPROVED&size=50", technicianToken).GET().build());
+    }
+
+    @Test
+    void myRequests() throws Exception {
+        var lists = new ArrayList<Supplier<HttpRequest>>();
+
+        for (var token : teacherTokens)
+            lists.add(() -> request("requests/my-requests?size=50", token).GET().build());
+
+        runAndAssert("myRequests", rotating(lists));
+    }
+
+    @Test
+    void approve() throws Exception {
+        runAndAssert("approve", () -> {
+            var id = createdIds.poll();
+
+            return id == null ? null : request("requests/approve/" + id, technicianToken).PUT(HttpRequest.BodyPublishers.noBody()).build();
+        });
+    }
+}
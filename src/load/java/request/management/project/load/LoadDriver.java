@@ -0,0 +1,95 @@
+package request.management.project.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class LoadDriver implements AutoCloseable {
+    private final HttpClient client;
+
+    private final int concurrency;
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    public LoadDriver(int concurrency, Duration warmup, Duration duration) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    public LoadResult run(String scenario, Supplier<HttpRequest> requests) throws InterruptedException, ExecutionException {
+        drive(requests, warmup.toNanos());
+
+        var started = System.nanoTime();
+        var errors = new AtomicLong();
+        var latencies = drive(requests, duration.toNanos(), errors);
+
+        return LoadResult.of(scenario, latencies, errors.get(), System.nanoTime() - started);
+    }
+
+    private long[] drive(Supplier<HttpRequest> requests, long durationNanos) throws InterruptedException, ExecutionException {
+        return drive(requests, durationNanos, new AtomicLong());
+    }
+
+    private long[] drive(Supplier<HttpRequest> requests, long durationNanos, AtomicLong errors) throws InterruptedException, ExecutionException {
+        var deadline = System.nanoTime() + durationNanos;
+
+        try (var workers = Executors.newFixedThreadPool(concurrency)) {
+            var futures = new ArrayList<Future<List<Long>>>();
+
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    var latencies = new ArrayList<Long>();
+
+                    while (System.nanoTime() < deadline) {
+                        var request = requests.get();
+
+                        if (request == null)
+                            break;
+
+                        var started = System.nanoTime();
+
+                        try {
+                            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+                            if (response.statusCode() >= 400)
+                                errors.incrementAndGet();
+                        } catch (IOException exception) {
+                            errors.incrementAndGet();
+                        }
+
+                        latencies.add(System.nanoTime() - started);
+                    }
+
+                    return latencies;
+                }));
+            }
+
+            var all = new ArrayList<Long>();
+
+            for (var future : futures)
+                all.addAll(future.get());
+
+            return all.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package request.management.project.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Arrays;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class LoadResult {
+    private final String scenario;
+
+    private final long requests;
+
+    private final long errors;
+
+    private final double throughput;
+
+    private final double p50Ms;
+
+    private final double p99Ms;
+
+    public static LoadResult of(String scenario, long[] latenciesNanos, long errors, long elapsedNanos) {
+        var sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+
+        return new LoadResult(scenario, sorted.length, errors, sorted.length / (elapsedNanos / 1e9),
+                percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0)
+            return 0;
+
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,195 @@
+package request.management.project.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import request.management.project.model.*;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.UserRepository;
+import request.management.project.security.jwt.JwtUtils;
+import request.management.project.security.services.UserDetailsImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class LoadTestSupport {
+    protected static final String PASSWORD = "password";
+
+    private static final Path RESULTS = Path.of("target", "load-results.properties");
+
+    protected final List<User> teachers = new ArrayList<>();
+
+    protected final List<String> teacherTokens = new ArrayList<>();
+
+    protected final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    protected String technicianToken;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${project.load.users:50}")
+    private int users;
+
+    @Value("${project.load.requests:10000}")
+    private int requests;
+
+    @Value("${project.load.concurrency:16}")
+    private int concurrency;
+
+    @Value("${project.load.warmupSeconds:3}")
+    private int warmupSeconds;
+
+    @Value("${project.load.durationSeconds:10}")
+    private int durationSeconds;
+
+    @Value("${project.load.tolerance:0.25}")
+    private double tolerance;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    protected boolean virtualThreads;
+
+    private User newUser(String username, UserType userType, String password, long cpf) {
+        var user = new User();
+        user.setUsername(username);
+        user.setCpf(LoginIdentifier.formatCpf(String.format("%011d", cpf)));
+        user.setEmail(username + "@email.com");
+        user.setRegistrationNumber(String.valueOf(cpf));
+        user.setName(username);
+        user.setPassword(password);
+        user.setBirthDate(LocalDateTime.now().toLocalDate());
+        user.setUserType(userType);
+
+        return user;
+    }
+
+    private String token(User user) {
+        var userDetails = UserDetailsImpl.build(user);
+
+        return jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @BeforeAll
+    void seed() {
+        var password = passwordEncoder.encode(PASSWORD);
+        var technician = userRepository.save(newUser("load-technician", UserType.TECHNICIAN, password, 1));
+        technicianToken = token(technician);
+
+        var newTeachers = new ArrayList<User>();
+        for (int i = 0; i < users; i++)
+            newTeachers.add(newUser("load-teacher-" + i, UserType.TEACHER, password, i + 2));
+
+        teachers.addAll(userRepository.saveAll(newTeachers));
+        teachers.forEach(teacher -> teacherTokens.add(token(teacher)));
+
+        var newRequests = new ArrayList<Request>();
+        for (int i = 0; i < requests; i++) {
+            var request = new Request();
+            request.setArea("load area " + i % 10);
+            request.setRequestType(i % 2 == 0 ? RequestType.POSTGRADUATE : RequestType.MASTERS_DEGREE);
+            request.setWorkload(i % 40);
+            request.setTotalCost(i % 1000 * 1.5f);
+            request.setRequestStatus(RequestStatus.CREATED);
+            request.setRequestDate(LocalDateTime.now().minusMinutes(i));
+            request.setOwner(teachers.get(i % teachers.size()));
+            newRequests.add(request);
+        }
+
+        requestRepository.saveAll(newRequests).forEach(request -> createdIds.add(request.getId()));
+        log.info("Seeded {} teachers and {} requests", teachers.size(), requests);
+    }
+
+    protected HttpRequest.Builder request(String path, String token) {
+        var builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/" + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    protected Supplier<HttpRequest> rotating(List<Supplier<HttpRequest>> suppliers) {
+        var next = new AtomicInteger();
+
+        return () -> suppliers.get(Math.floorMod(next.getAndIncrement(), suppliers.size())).get();
+    }
+
+    protected void runAndAssert(String scenario, Supplier<HttpRequest> requests) throws InterruptedException, ExecutionException, IOException {
+        LoadResult result;
+
+        try (var driver = new LoadDriver(concurrency, Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(durationSeconds))) {
+            result = driver.run(scenario, requests);
+        }
+
+        log.info("{} (virtual threads: {})", result, virtualThreads);
+        record(result);
+
+        var baselines = new Properties();
+        try (var stream = getClass().getResourceAsStream("/load-baselines.properties")) {
+            baselines.load(stream);
+        }
+
+        var p99Baseline = Double.parseDouble(baselines.getProperty(scenario + ".p99Ms"));
+        var throughputBaseline = Double.parseDouble(baselines.getProperty(scenario + ".throughput"));
+
+        assertEquals(result.getErrors(), 0L);
+        assertTrue(result.getP99Ms() <= p99Baseline * (1 + tolerance),
+                scenario + " p99 of " + result.getP99Ms() + " ms regressed beyond the " + p99Baseline + " ms baseline");
+        assertTrue(result.getThroughput() >= throughputBaseline * (1 - tolerance),
+                scenario + " throughput of " + result.getThroughput() + " req/s regressed beyond the " + throughputBaseline + " req/s baseline");
+    }
+
+    private synchronized void record(LoadResult result) throws IOException {
+        var results = new Properties();
+
+        if (Files.exists(RESULTS)) {
+            try (var stream = Files.newInputStream(RESULTS)) {
+                results.load(stream);
+            }
+        }
+
+        results.setProperty(result.getScenario() + ".p99Ms", String.format("%.1f", result.getP99Ms()));
+        results.setProperty(result.getScenario() + ".throughput", String.format("%.1f", result.getThroughput()));
+
+        Files.createDirectories(RESULTS.getParent());
+        try (OutputStream stream = Files.newOutputStream(RESULTS)) {
+            results.store(stream, "Measured with virtual threads " + (virtualThreads ? "enabled" : "disabled"));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package request.management.project.load;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+
+public class SlowDataSource extends DelegatingDataSource {
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "createStatement", "prepareCall");
+
+    private volatile Duration latency = Duration.ZERO;
+
+    public SlowDataSource(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return slow(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return slow(super.getConnection(username, password));
+    }
+
+    private Connection slow(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            if (STATEMENT_METHODS.contains(method.getName()) && !latency.isZero())
+                Thread.sleep(latency);
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        });
+    }
+}
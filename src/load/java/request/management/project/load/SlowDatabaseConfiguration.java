@@ -0,0 +1,20 @@
+package request.management.project.load;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+@TestConfiguration
+public class SlowDatabaseConfiguration {
+    @Bean
+    static BeanPostProcessor slowDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof SlowDataSource) ? new SlowDataSource(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package request.management.project.load;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Import;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+@Import(SlowDatabaseConfiguration.class)
+public abstract class SlowDatabaseLoadTestSupport extends LoadTestSupport {
+    @Autowired
+    private SlowDataSource dataSource;
+
+    @Value("${project.load.dbLatencyMs:200}")
+    private long dbLatencyMs;
+
+    @BeforeAll
+    void slowDown() {
+        dataSource.setLatency(Duration.ofMillis(dbLatencyMs));
+    }
+
+    private String scenario(String name) {
+        return "slowDatabase." + (virtualThreads ? "virtual" : "platform") + "." + name;
+    }
+
+    @Test
+    void list() throws Exception {
+        runAndAssert(scenario("list"), () -> request("requests?size=50", technicianToken).GET().build());
+    }
+
+    @Test
+    void myRequests() throws Exception {
+        var lists = new ArrayList<Supplier<HttpRequest>>();
+
+        for (var token : teacherTokens)
+            lists.add(() -> request("requests/my-requests?size=50", token).GET().build());
+
+        runAndAssert(scenario("myRequests"), rotating(lists));
+    }
+}
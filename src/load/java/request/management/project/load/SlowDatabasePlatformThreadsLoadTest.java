@@ -0,0 +1,14 @@
+package request.management.project.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:load-slow-platform;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "server.tomcat.threads.max=16",
+        "project.load.concurrency=64",
+        "project.load.warmupSeconds=5"
+})
+public class SlowDatabasePlatformThreadsLoadTest extends SlowDatabaseLoadTestSupport {
+}
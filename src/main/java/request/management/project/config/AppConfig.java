@@ -1,19 +1,29 @@
 package request.management.project.config;
 
 import br.com.caelum.stella.validation.CPFValidator;
-import org.modelmapper.ModelMapper;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableCaching
+@EnableScheduling
 public class AppConfig {
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
+    public CPFValidator cpfValidator() {
+        return new CPFValidator();
     }
 
     @Bean
-    public CPFValidator cpfValidator() {
-        return new CPFValidator();
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry, (ProceedingJoinPoint joinPoint) -> Tags.of(
+                "class", joinPoint.getTarget().getClass().getSimpleName(),
+                "method", joinPoint.getSignature().getName()
+        ));
     }
 }
@@ -0,0 +1,55 @@
+package request.management.project.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        var statistics = sessionFactory.getStatistics();
+
+        var regions = new TreeMap<String, Object>();
+
+        for (var regionName : statistics.getSecondLevelCacheRegionNames()) {
+            var regionStatistics = statistics.getDomainDataRegionStatistics(regionName);
+
+            if (regionStatistics == null)
+                continue;
+
+            var region = new LinkedHashMap<String, Object>();
+            region.put("hits", regionStatistics.getHitCount());
+            region.put("misses", regionStatistics.getMissCount());
+            region.put("puts", regionStatistics.getPutCount());
+            region.put("elementsInMemory", regionStatistics.getElementCountInMemory());
+
+            regions.put(regionName, region);
+        }
+
+        var response = new LinkedHashMap<String, Object>();
+        response.put("enabled", sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+        response.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        response.put("hits", statistics.getSecondLevelCacheHitCount());
+        response.put("misses", statistics.getSecondLevelCacheMissCount());
+        response.put("puts", statistics.getSecondLevelCachePutCount());
+        response.put("naturalIdHits", statistics.getNaturalIdCacheHitCount());
+        response.put("naturalIdMisses", statistics.getNaturalIdCacheMissCount());
+        response.put("naturalIdPuts", statistics.getNaturalIdCachePutCount());
+        response.put("regions", regions);
+
+        return response;
+    }
+}
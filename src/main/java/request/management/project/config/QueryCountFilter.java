@@ -0,0 +1,56 @@
+package request.management.project.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "project.queryCount.enabled", havingValue = "true")
+public class QueryCountFilter extends OncePerRequestFilter {
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    @Value("${project.queryCount.threshold:10}")
+    private int threshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        queryCountInspector.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            var statements = queryCountInspector.stop();
+
+            if (statements.size() > threshold)
+                log.warn("{} {} executed {} queries (threshold {}): {}", request.getMethod(), request.getRequestURI(),
+                        statements.size(), threshold, shapes(statements));
+            else
+                log.debug("{} {} executed {} queries", request.getMethod(), request.getRequestURI(), statements.size());
+        }
+    }
+
+    static Map<String, Long> shapes(List<String> statements) {
+        return statements.stream()
+                .map(statement -> statement.replaceAll("\\(\\?(,\\s*\\?)*\\)", "(?)").replaceAll("\\s+", " ").trim())
+                .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+    }
+}
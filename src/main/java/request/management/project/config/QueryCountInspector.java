@@ -0,0 +1,51 @@
+package request.management.project.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "project.queryCount.enabled", havingValue = "true")
+public class QueryCountInspector implements StatementInspector, HibernatePropertiesCustomizer {
+    private final ThreadLocal<Deque<List<String>>> statements = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Value("${project.queryCount.slowQueryMs:0}")
+    private long slowQueryMs;
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+
+        if (slowQueryMs > 0)
+            hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryMs);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statements.get().forEach(current -> current.add(sql));
+
+        return sql;
+    }
+
+    public void start() {
+        statements.get().push(new ArrayList<>());
+    }
+
+    public List<String> stop() {
+        var current = statements.get().poll();
+
+        if (statements.get().isEmpty())
+            statements.remove();
+
+        return current != null ? current : List.of();
+    }
+}
@@ -51,6 +51,7 @@ public class WebSecurityConfig {
             .authorizeHttpRequests(auth ->
                 auth
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/auth/**").permitAll()
+                    .requestMatchers("/actuator/**").hasAuthority("ADMIN")
                     .anyRequest().authenticated()
             );
 
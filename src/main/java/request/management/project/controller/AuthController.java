@@ -4,20 +4,24 @@ import br.com.caelum.stella.validation.InvalidStateException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import request.management.project.dto.UserDto;
+import request.management.project.exceptions.PasswordHashingBusyException;
 import request.management.project.model.EnumMessage;
+import request.management.project.model.LoginIdentifier;
+import request.management.project.model.LoginIdentifierType;
 import request.management.project.model.UserType;
 import request.management.project.dto.auth.LoginRequestDto;
 import request.management.project.dto.auth.RegisterRequestDto;
 import request.management.project.response.ResponseHandler;
 import request.management.project.security.jwt.JwtUtils;
 import request.management.project.security.services.UserDetailsImpl;
+import request.management.project.service.PasswordHashingService;
 import request.management.project.service.UserService;
 
 import java.util.HashMap;
@@ -32,32 +36,20 @@ public class AuthController {
     private UserService userService;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JwtUtils jwtUtils;
 
-    private static final String CPF_REGEX = "^(\\d{11})$";
-    private static final String CPF_WITH_SYMBOLS_REGEX = "^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2})$";
-    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$";
-
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto loginDto) {
+        var identifier = LoginIdentifier.classify(loginDto.getAuth());
+
         try {
-            UserDto foundUser;
-
-            if (loginDto.getAuth().matches(CPF_REGEX)) {
-                foundUser = userService.findByCpf(formatCpf(loginDto.getAuth()));
-            } else if (loginDto.getAuth().matches(CPF_WITH_SYMBOLS_REGEX)) {
-                foundUser = userService.findByCpf(loginDto.getAuth());
-            } else if (loginDto.getAuth().matches(EMAIL_REGEX)) {
-                foundUser = userService.findByEmail(loginDto.getAuth());
-            } else {
-                foundUser = userService.findByUsername(loginDto.getAuth());
-            }
+            var foundUser = userService.findByLogin(identifier);
 
-            if (passwordEncoder.matches(loginDto.getPassword(), foundUser.getPassword())){
-                var userDetails = UserDetailsImpl.build(userService.getUserEntityFindByUsername(foundUser.getUsername()));
+            if (passwordHashingService.matches(loginDto.getPassword(), foundUser.getPassword())){
+                var userDetails = UserDetailsImpl.build(foundUser);
 
                 Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
@@ -81,15 +73,17 @@ public class AuthController {
             }
 
         } catch (NoSuchElementException exception) {
-            if (loginDto.getAuth().matches(CPF_REGEX) || loginDto.getAuth().matches(CPF_WITH_SYMBOLS_REGEX)) {
+            if (identifier.getType().equals(LoginIdentifierType.CPF)) {
                 return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), "User not found with the passed CPF");
-            } else if (loginDto.getAuth().matches(EMAIL_REGEX)) {
+            } else if (identifier.getType().equals(LoginIdentifierType.EMAIL)) {
                 return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), "User not found with the passed email");
             } else {
                 return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), "User not found with the passed username");
             }
         } catch (InvalidStateException exception) {
             return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.INVALID_CPF.message());
+        } catch (PasswordHashingBusyException exception) {
+            return ResponseHandler.generateResponse(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build(), exception.getMessage());
         }
     }
 
@@ -101,19 +95,18 @@ public class AuthController {
             userDto.setUsername(registerDto.getUsername());
             userDto.setName(registerDto.getName());
             userDto.setRegistrationNumber(registerDto.getRegistrationNumber());
-            userDto.setPassword(passwordEncoder.encode(registerDto.getPassword()));
             userDto.setBirthDate(registerDto.getBirthDate());
             userDto.setGender(registerDto.getGender());
 
-            if (registerDto.getCpf().matches(CPF_REGEX)){
-                userDto.setCpf(formatCpf(registerDto.getCpf()));
-            } else if (registerDto.getCpf().matches(CPF_WITH_SYMBOLS_REGEX)){
+            if (LoginIdentifier.CPF_PATTERN.matcher(registerDto.getCpf()).matches()){
+                userDto.setCpf(LoginIdentifier.formatCpf(registerDto.getCpf()));
+            } else if (LoginIdentifier.CPF_WITH_SYMBOLS_PATTERN.matcher(registerDto.getCpf()).matches()){
                 userDto.setCpf(registerDto.getCpf());
             } else {
                 return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.INVALID_CPF.message());
             }
 
-            if (registerDto.getEmail().matches(EMAIL_REGEX)) {
+            if (LoginIdentifier.EMAIL_PATTERN.matcher(registerDto.getEmail()).matches()) {
                 userDto.setEmail(registerDto.getEmail());
             } else {
                 return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), "Invalid email!");
@@ -125,6 +118,8 @@ public class AuthController {
                 userDto.setUserType(registerDto.getUserType());
             }
 
+            userDto.setPassword(passwordHashingService.encode(registerDto.getPassword()));
+
             return ResponseHandler.generateResponse(ResponseEntity.ok(userService.create(userDto)), EnumMessage.POST_MESSAGE.message());
 
         } catch (DataIntegrityViolationException exception) {
@@ -137,6 +132,8 @@ public class AuthController {
             }
         } catch (InvalidStateException exception) {
             return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.INVALID_CPF.message());
+        } catch (PasswordHashingBusyException exception) {
+            return ResponseHandler.generateResponse(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build(), exception.getMessage());
         }
     }
 
@@ -144,11 +141,4 @@ public class AuthController {
     public ResponseEntity<?> logout() {
         return ResponseEntity.noContent().build();
     }
-
-    private String formatCpf(String cpf) {
-        return cpf.substring(0, 3) + "." +
-                cpf.substring(3, 6) + "." +
-                cpf.substring(6, 9) + "-" +
-                cpf.substring(9, 11);
-    }
 }
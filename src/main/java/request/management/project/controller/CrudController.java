@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.TransactionSystemException;
 import org.springframework.web.bind.annotation.*;
 import request.management.project.dto.BaseDto;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.model.EnumMessage;
 import request.management.project.response.ResponseHandler;
 import request.management.project.service.ICrudService;
@@ -31,11 +32,19 @@ public abstract class CrudController <T extends BaseDto<Long>> {
 
     @GetMapping
     public ResponseEntity<?> list(@RequestParam(name = "direction", defaultValue = "ASC") Sort.Direction direction,
-                                  @RequestParam(name = "property", defaultValue = "id") String property) {
+                                  @RequestParam(name = "property", defaultValue = "id") String property,
+                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                  @RequestParam(name = "size", required = false) Integer size) {
         try {
-            return ResponseHandler.generateResponse(ResponseEntity.ok(service.findAll(direction, property)), EnumMessage.GET_MESSAGE.message());
+            if (cursor == null && size == null) {
+                return ResponseHandler.generateResponse(ResponseEntity.ok(service.findAll(direction, property)), EnumMessage.GET_MESSAGE.message());
+            }
+
+            return ResponseHandler.generateResponse(ResponseEntity.ok(service.findAll(direction, property, cursor, size)), EnumMessage.GET_MESSAGE.message());
         } catch (PropertyReferenceException ignored) {
             return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.PROPERTY_NOT_FOUND_MESSAGE.message());
+        } catch (InvalidCursorException exception) {
+            return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), exception.getMessage());
         }
     }
 
@@ -1,26 +1,37 @@
 package request.management.project.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import request.management.project.dto.RequestDto;
 import request.management.project.exceptions.EmptyReasonException;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.exceptions.RequestAlreadyApprovedException;
 import request.management.project.exceptions.RequestAlreadyUnapprovedException;
 import request.management.project.model.EnumMessage;
+import request.management.project.model.ExportFormat;
+import request.management.project.model.ImportFormat;
+import request.management.project.model.Request;
 import request.management.project.model.RequestStatus;
 import request.management.project.model.DisapproveReason;
+import request.management.project.model.RequestDisapproval;
 import request.management.project.model.UserType;
 import request.management.project.response.ResponseHandler;
 import request.management.project.security.services.UserDetailsImpl;
 import request.management.project.service.ICrudService;
+import request.management.project.service.ImportService;
 import request.management.project.service.RequestService;
-import request.management.project.service.UserService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -32,7 +43,7 @@ public class RequestController extends CrudController<RequestDto> {
     private RequestService requestService;
 
     @Autowired
-    private UserService userService;
+    private ImportService importService;
 
     public RequestController(ICrudService<RequestDto> service) {
         super(service);
@@ -47,27 +58,84 @@ public class RequestController extends CrudController<RequestDto> {
     @Override
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TECHNICIAN')")
     public ResponseEntity<?> list(@RequestParam(name = "direction", defaultValue = "ASC") Sort.Direction direction,
-                                  @RequestParam(name = "property", defaultValue = "requestDate") String property){
-        return super.list(direction, property);
+                                  @RequestParam(name = "property", defaultValue = "requestDate") String property,
+                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                  @RequestParam(name = "size", required = false) Integer size){
+        return super.list(direction, property, cursor, size);
     }
 
     @GetMapping("filter")
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TECHNICIAN')")
     public ResponseEntity<?> listByStatus(@RequestParam(name = "direction", defaultValue = "ASC") Sort.Direction direction,
                                           @RequestParam(name = "property", defaultValue = "requestDate") String property,
-                                          @RequestParam(name = "status", defaultValue = "CREATED") List<RequestStatus> statusList){
+                                          @RequestParam(name = "status", defaultValue = "CREATED") List<RequestStatus> statusList,
+                                          @RequestParam(name = "cursor", required = false) String cursor,
+                                          @RequestParam(name = "size", required = false) Integer size){
         try {
-            return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.listAllByStatus(statusList, direction, property)), EnumMessage.GET_MESSAGE.message());
+            if (cursor == null && size == null) {
+                return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.listAllByStatus(statusList, direction, property)), EnumMessage.GET_MESSAGE.message());
+            }
+
+            return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.listAllByStatus(statusList, direction, property, cursor, size)), EnumMessage.GET_MESSAGE.message());
         } catch (PropertyReferenceException exception) {
             return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.PROPERTY_NOT_FOUND_MESSAGE.message());
+        } catch (InvalidCursorException exception) {
+            return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), exception.getMessage());
+        }
+    }
+
+    @GetMapping("export")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TECHNICIAN')")
+    public ResponseEntity<?> export(@RequestParam(name = "direction", defaultValue = "ASC") Sort.Direction direction,
+                                    @RequestParam(name = "property", defaultValue = "requestDate") String property,
+                                    @RequestParam(name = "status", defaultValue = "CREATED,APPROVED,UNAPPROVED") List<RequestStatus> statusList,
+                                    @RequestParam(name = "format", defaultValue = "JSON") ExportFormat format,
+                                    HttpServletResponse response) throws IOException {
+        try {
+            PropertyPath.from(property, Request.class);
+        } catch (PropertyReferenceException ignored) {
+            return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.PROPERTY_NOT_FOUND_MESSAGE.message());
+        }
+
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"requests." + format.name().toLowerCase() + "\"");
+
+        requestService.exportByStatus(statusList, direction, property, format, response.getOutputStream());
+
+        return null;
+    }
+
+    @GetMapping("summary")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TECHNICIAN')")
+    public ResponseEntity<?> summarize() {
+        return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.summarize()), EnumMessage.GET_MESSAGE.message());
+    }
+
+    @GetMapping("stats")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TECHNICIAN')")
+    public ResponseEntity<?> listStats() {
+        return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.listStats()), EnumMessage.GET_MESSAGE.message());
+    }
+
+    @PostMapping("import")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER')")
+    public ResponseEntity<?> importRequests(@RequestParam(name = "format", defaultValue = "CSV") ImportFormat format,
+                                            InputStream body) {
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        boolean forceOwner = !loggedUser.getUserType().equals(UserType.ADMIN);
+
+        try {
+            return ResponseHandler.generateResponse(ResponseEntity.ok(importService.importRequests(body, format, loggedUser.getId(), forceOwner)), EnumMessage.POST_MESSAGE.message());
+        } catch (IOException exception) {
+            return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.INVALID_IMPORT_FILE_MESSAGE.message());
         }
     }
 
     @Override
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER')")
     public ResponseEntity<?> create(RequestDto dto) {
-        var user = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        var loggedUser = userService.findByUsername(user.getUsername());
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
         dto.setRequestStatus(RequestStatus.CREATED);
         dto.setDisapproveReason(null);
@@ -79,8 +147,7 @@ public class RequestController extends CrudController<RequestDto> {
     @Override
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER')")
     public ResponseEntity<?> update(@PathVariable("id") Long id, @RequestBody RequestDto dto) {
-        var user = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        var loggedUser = userService.findByUsername(user.getUsername());
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
         try {
             var foundRequest = requestService.find(id);
@@ -111,8 +178,7 @@ public class RequestController extends CrudController<RequestDto> {
     @Override
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER')")
     public ResponseEntity<?> delete(@PathVariable("id") Long id) {
-        var user = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        var loggedUser = userService.findByUsername(user.getUsername());
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
         if (loggedUser.getUserType().equals(UserType.TEACHER)) {
             try {
@@ -156,16 +222,52 @@ public class RequestController extends CrudController<RequestDto> {
         }
     }
 
+    @PutMapping("/approve")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TECHNICIAN')")
+    public ResponseEntity<?> approveRequests(@RequestBody List<Long> ids) {
+        return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.approveRequests(ids)), EnumMessage.PUT_MESSAGE.message());
+    }
+
+    @PutMapping("/disapprove")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TECHNICIAN')")
+    public ResponseEntity<?> disapproveRequests(@RequestBody List<RequestDisapproval> disapprovals) {
+        return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.disapproveRequests(disapprovals)), EnumMessage.PUT_MESSAGE.message());
+    }
+
     @GetMapping("/my-requests")
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER')")
     public ResponseEntity<?> listTasksByUser(@RequestParam(name = "direction", defaultValue = "ASC") Sort.Direction direction,
-                                             @RequestParam(name = "property", defaultValue = "requestDate") String property) {
-        var user = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        var foundUser = userService.findByUsername(user.getUsername());
+                                             @RequestParam(name = "property", defaultValue = "requestDate") String property,
+                                             @RequestParam(name = "cursor", required = false) String cursor,
+                                             @RequestParam(name = "size", required = false) Integer size) {
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
         try {
-            return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.listAllByOwner(foundUser, direction, property)), EnumMessage.GET_MESSAGE.message());
+            if (cursor == null && size == null) {
+                return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.listAllByOwner(loggedUser.getId(), direction, property)), EnumMessage.GET_MESSAGE.message());
+            }
+
+            return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.listAllByOwner(loggedUser.getId(), direction, property, cursor, size)), EnumMessage.GET_MESSAGE.message());
         } catch (PropertyReferenceException ignored) {
             return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.PROPERTY_NOT_FOUND_MESSAGE.message());
+        } catch (InvalidCursorException exception) {
+            return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), exception.getMessage());
         }
-    }}
+    }
+
+    @GetMapping("/my-requests/summary")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER')")
+    public ResponseEntity<?> summarizeByUser() {
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.summarizeByOwner(loggedUser.getId())), EnumMessage.GET_MESSAGE.message());
+    }
+
+    @GetMapping("/my-requests/stats")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER')")
+    public ResponseEntity<?> listStatsByUser() {
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        return ResponseHandler.generateResponse(ResponseEntity.ok(requestService.listStatsByOwner(loggedUser.getId())), EnumMessage.GET_MESSAGE.message());
+    }
+}
@@ -3,18 +3,25 @@ package request.management.project.controller;
 import br.com.caelum.stella.validation.InvalidStateException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import request.management.project.dto.UserDto;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.model.EnumMessage;
+import request.management.project.model.ImportFormat;
 import request.management.project.model.UserType;
 import request.management.project.response.ResponseHandler;
 import request.management.project.security.services.UserDetailsImpl;
 import request.management.project.service.ICrudService;
+import request.management.project.service.ImportService;
 import request.management.project.service.UserService;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("users")
 public class UserController extends CrudController<UserDto> {
@@ -22,6 +29,9 @@ public class UserController extends CrudController<UserDto> {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ImportService importService;
+
     public UserController(ICrudService<UserDto> service, UserService userService) {
         super(service);
         this.userService = userService;
@@ -36,8 +46,40 @@ public class UserController extends CrudController<UserDto> {
     @Override
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER', 'TECHNICIAN')")
     public ResponseEntity<?> list(@RequestParam(name = "direction", defaultValue = "ASC") Sort.Direction direction,
-                                  @RequestParam(name = "property", defaultValue = "id") String property) {
-        return super.list(direction, property);
+                                  @RequestParam(name = "property", defaultValue = "id") String property,
+                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                  @RequestParam(name = "size", required = false) Integer size) {
+        try {
+            if (cursor == null && size == null) {
+                return ResponseHandler.generateResponse(ResponseEntity.ok(userService.listSummaries(direction, property)), EnumMessage.GET_MESSAGE.message());
+            }
+
+            return ResponseHandler.generateResponse(ResponseEntity.ok(userService.listSummaries(direction, property, cursor, size)), EnumMessage.GET_MESSAGE.message());
+        } catch (PropertyReferenceException ignored) {
+            return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.PROPERTY_NOT_FOUND_MESSAGE.message());
+        } catch (InvalidCursorException exception) {
+            return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), exception.getMessage());
+        }
+    }
+
+    @GetMapping(params = "include=requests")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER', 'TECHNICIAN')")
+    public ResponseEntity<?> listWithRequests(@RequestParam(name = "direction", defaultValue = "ASC") Sort.Direction direction,
+                                              @RequestParam(name = "property", defaultValue = "id") String property,
+                                              @RequestParam(name = "cursor", required = false) String cursor,
+                                              @RequestParam(name = "size", required = false) Integer size) {
+        return super.list(direction, property, cursor, size);
+    }
+
+    @PostMapping("import")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<?> importUsers(@RequestParam(name = "format", defaultValue = "CSV") ImportFormat format,
+                                         InputStream body) {
+        try {
+            return ResponseHandler.generateResponse(ResponseEntity.ok(importService.importUsers(body, format)), EnumMessage.POST_MESSAGE.message());
+        } catch (IOException exception) {
+            return ResponseHandler.generateResponse(ResponseEntity.badRequest().build(), EnumMessage.INVALID_IMPORT_FILE_MESSAGE.message());
+        }
     }
 
     @Override
@@ -53,8 +95,7 @@ public class UserController extends CrudController<UserDto> {
     @Override
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER', 'TECHNICIAN')")
     public ResponseEntity<?> update(@PathVariable("id") Long id, @RequestBody UserDto dto) {
-        var user = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        var loggedUser = userService.findByUsername(user.getUsername());
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
         if (loggedUser.getId().equals(id) || loggedUser.getUserType().equals(UserType.ADMIN)) {
             return super.update(id, dto);
@@ -66,8 +107,7 @@ public class UserController extends CrudController<UserDto> {
     @Override
     @PreAuthorize("hasAnyAuthority('ADMIN', 'TEACHER', 'TECHNICIAN')")
     public ResponseEntity<?> delete(@PathVariable("id") Long id) {
-        var user = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        var loggedUser = userService.findByUsername(user.getUsername());
+        var loggedUser = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
         if (loggedUser.getId().equals(id) || loggedUser.getUserType().equals(UserType.ADMIN)) {
             return super.delete(id);
@@ -0,0 +1,20 @@
+package request.management.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> implements Serializable {
+    List<T> content = new ArrayList<>();
+
+    String nextCursor;
+
+    boolean hasNext;
+}
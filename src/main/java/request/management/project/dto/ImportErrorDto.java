@@ -0,0 +1,16 @@
+package request.management.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorDto implements Serializable {
+    long line;
+
+    String message;
+}
@@ -0,0 +1,18 @@
+package request.management.project.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ImportReportDto implements Serializable {
+    long total;
+
+    long imported;
+
+    List<ImportErrorDto> errors = new ArrayList<>();
+}
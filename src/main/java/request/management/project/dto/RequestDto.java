@@ -3,6 +3,7 @@ package request.management.project.dto;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.PersistenceCreator;
 import request.management.project.model.RequestStatus;
 import request.management.project.model.RequestType;
 
@@ -27,4 +28,18 @@ public class RequestDto extends BaseDto<Long> {
     Long ownerId;
 
     String disapproveReason;
+
+    @PersistenceCreator
+    public RequestDto(Long id, String area, RequestType requestType, Integer workload, Float totalCost,
+                      RequestStatus requestStatus, LocalDateTime requestDate, Long ownerId, String disapproveReason) {
+        this.id = id;
+        this.area = area;
+        this.requestType = requestType;
+        this.workload = workload;
+        this.totalCost = totalCost;
+        this.requestStatus = requestStatus;
+        this.requestDate = requestDate;
+        this.ownerId = ownerId;
+        this.disapproveReason = disapproveReason;
+    }
 }
@@ -0,0 +1,24 @@
+package request.management.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import request.management.project.model.RequestStatus;
+import request.management.project.model.RequestType;
+
+import java.io.Serializable;
+
+@Data
+@AllArgsConstructor
+public class RequestSummaryDto implements Serializable {
+    RequestStatus requestStatus;
+
+    RequestType requestType;
+
+    String area;
+
+    Long count;
+
+    Double totalCost;
+
+    Long totalWorkload;
+}
@@ -0,0 +1,17 @@
+package request.management.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import request.management.project.model.TransitionOutcome;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransitionResultDto implements Serializable {
+    Long id;
+
+    TransitionOutcome outcome;
+}
@@ -0,0 +1,31 @@
+package request.management.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import request.management.project.model.Gender;
+import request.management.project.model.UserType;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class UserSummaryDto implements Serializable {
+    Long id;
+
+    String username;
+
+    String cpf;
+
+    String email;
+
+    String registrationNumber;
+
+    String name;
+
+    LocalDate birthDate;
+
+    Gender gender;
+
+    UserType userType;
+}
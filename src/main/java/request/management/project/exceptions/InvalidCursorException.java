@@ -0,0 +1,11 @@
+package request.management.project.exceptions;
+
+public class InvalidCursorException extends Exception{
+    public InvalidCursorException(){
+        super("Invalid pagination cursor");
+    }
+
+    public InvalidCursorException(String message){
+        super(message);
+    }
+}
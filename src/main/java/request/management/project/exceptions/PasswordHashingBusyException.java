@@ -0,0 +1,7 @@
+package request.management.project.exceptions;
+
+public class PasswordHashingBusyException extends Exception{
+    public PasswordHashingBusyException(){
+        super("Too many authentication requests, please try again later.");
+    }
+}
@@ -1,23 +1,29 @@
 package request.management.project.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import request.management.project.dto.RequestDto;
 import request.management.project.model.Request;
+import request.management.project.model.User;
 
-@Component
-public class RequestMapper extends GenericMapper<RequestDto, Request> {
-    @Autowired
-    private ModelMapper modelMapper;
-
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true))
+public abstract class RequestMapper extends GenericMapper<RequestDto, Request> {
     @Override
-    public RequestDto toDto(Request entity) {
-        return modelMapper.map(entity, RequestDto.class);
-    }
+    public abstract RequestDto toDto(Request entity);
 
     @Override
-    public Request toEntity(RequestDto dto) {
-        return modelMapper.map(dto, Request.class);
+    @Mapping(target = "code", ignore = true)
+    @Mapping(target = "owner", source = "ownerId")
+    public abstract Request toEntity(RequestDto dto);
+
+    protected User ownerFromId(Long ownerId) {
+        if (ownerId == null)
+            return null;
+
+        var owner = new User();
+        owner.setId(ownerId);
+
+        return owner;
     }
 }
@@ -1,23 +1,27 @@
 package request.management.project.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.NullValueMappingStrategy;
 import request.management.project.dto.UserDto;
+import request.management.project.dto.UserSummaryDto;
 import request.management.project.model.User;
 
-@Component
-public class UserMapper extends GenericMapper<UserDto, User> {
-    @Autowired
-    private ModelMapper modelMapper;
-
+@Mapper(
+        componentModel = "spring",
+        uses = RequestMapper.class,
+        builder = @Builder(disableBuilder = true),
+        nullValueIterableMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT
+)
+public abstract class UserMapper extends GenericMapper<UserDto, User> {
     @Override
-    public UserDto toDto(User entity) {
-        return modelMapper.map(entity, UserDto.class);
-    }
+    public abstract UserDto toDto(User entity);
 
     @Override
-    public User toEntity(UserDto dto) {
-        return modelMapper.map(dto, User.class);
-    }
+    @Mapping(target = "code", ignore = true)
+    @Mapping(target = "cpfDigits", ignore = true)
+    public abstract User toEntity(UserDto dto);
+
+    public abstract UserSummaryDto toSummary(User entity);
 }
@@ -16,8 +16,11 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public abstract class BaseEntity<T extends Number> implements Serializable, IPrePersist, IPreUpdate {
+    public static final String ID_GENERATOR = "id_generator";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = BaseEntity.ID_GENERATOR)
     private T id;
 
     private String code;
@@ -54,6 +54,12 @@ public enum EnumMessage {
         public String message() {
             return "You don't have permission to do this!";
         }
+    },
+    INVALID_IMPORT_FILE_MESSAGE {
+        @Override
+        public String message() {
+            return "Invalid import file!";
+        }
     };
 
     public abstract String message();
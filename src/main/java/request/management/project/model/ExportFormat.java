@@ -0,0 +1,24 @@
+package request.management.project.model;
+
+public enum ExportFormat {
+    JSON {
+        @Override
+        public String contentType() {
+            return "application/json";
+        }
+    },
+    NDJSON {
+        @Override
+        public String contentType() {
+            return "application/x-ndjson";
+        }
+    },
+    CSV {
+        @Override
+        public String contentType() {
+            return "text/csv";
+        }
+    };
+
+    public abstract String contentType();
+}
@@ -0,0 +1,6 @@
+package request.management.project.model;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,46 @@
+package request.management.project.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.regex.Pattern;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LoginIdentifier {
+    public static final Pattern CPF_PATTERN = Pattern.compile("^(\\d{11})$");
+    public static final Pattern CPF_WITH_SYMBOLS_PATTERN = Pattern.compile("^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2})$");
+    public static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$");
+
+    private static final int CPF_LENGTH = 11;
+    private static final int CPF_WITH_SYMBOLS_LENGTH = 14;
+
+    private final LoginIdentifierType type;
+
+    private final String value;
+
+    public static LoginIdentifier classify(String auth) {
+        if (auth.length() == CPF_LENGTH && CPF_PATTERN.matcher(auth).matches())
+            return new LoginIdentifier(LoginIdentifierType.CPF, formatCpf(auth));
+
+        if (auth.length() == CPF_WITH_SYMBOLS_LENGTH && CPF_WITH_SYMBOLS_PATTERN.matcher(auth).matches())
+            return new LoginIdentifier(LoginIdentifierType.CPF, auth);
+
+        if (auth.indexOf('@') >= 0 && EMAIL_PATTERN.matcher(auth).matches())
+            return new LoginIdentifier(LoginIdentifierType.EMAIL, auth);
+
+        return new LoginIdentifier(LoginIdentifierType.USERNAME, auth);
+    }
+
+    public static String formatCpf(String cpf) {
+        return cpf.substring(0, 3) + "." +
+                cpf.substring(3, 6) + "." +
+                cpf.substring(6, 9) + "-" +
+                cpf.substring(9, 11);
+    }
+}
@@ -0,0 +1,7 @@
+package request.management.project.model;
+
+public enum LoginIdentifierType {
+    CPF,
+    EMAIL,
+    USERNAME
+}
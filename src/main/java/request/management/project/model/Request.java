@@ -3,21 +3,27 @@ package request.management.project.model;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.lang.Nullable;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "requests")
 @Data
+@SequenceGenerator(name = BaseEntity.ID_GENERATOR, sequenceName = "request_id_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
 @Table(name = "requests")
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class Request extends BaseEntity<Long> {
-
     @NotBlank
     private String area;
 
@@ -34,8 +40,32 @@ public class Request extends BaseEntity<Long> {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd@HH:mm:ss")
     private LocalDateTime requestDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User owner;
 
+    @Column(name = "owner_id", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Long ownerId;
+
+    @Nullable
     private String disapproveReason;
+
+    public Request(String area, RequestType requestType, Integer workload, Float totalCost, RequestStatus requestStatus,
+                   LocalDateTime requestDate, User owner, String disapproveReason) {
+        this.area = area;
+        this.requestType = requestType;
+        this.workload = workload;
+        this.totalCost = totalCost;
+        this.requestStatus = requestStatus;
+        this.requestDate = requestDate;
+        this.disapproveReason = disapproveReason;
+        setOwner(owner);
+    }
+
+    public void setOwner(User owner) {
+        this.owner = owner;
+        this.ownerId = owner != null ? owner.getId() : null;
+    }
 }
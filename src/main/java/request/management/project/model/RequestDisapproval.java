@@ -0,0 +1,14 @@
+package request.management.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestDisapproval {
+    private Long id;
+
+    private String reason;
+}
@@ -0,0 +1,26 @@
+package request.management.project.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Entity
+@Data
+@Table(name = "request_stats")
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestStats implements Serializable {
+    @EmbeddedId
+    private RequestStatsId id;
+
+    private Long requestCount;
+
+    private Double totalCost;
+
+    private Long totalWorkload;
+}
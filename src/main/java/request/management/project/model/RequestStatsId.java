@@ -0,0 +1,24 @@
+package request.management.project.model;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestStatsId implements Serializable {
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    private RequestStatus requestStatus;
+
+    @Enumerated(EnumType.STRING)
+    private RequestType requestType;
+}
@@ -0,0 +1,22 @@
+package request.management.project.model;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestStatsTotalId implements Serializable {
+    @Enumerated(EnumType.STRING)
+    private RequestStatus requestStatus;
+
+    @Enumerated(EnumType.STRING)
+    private RequestType requestType;
+}
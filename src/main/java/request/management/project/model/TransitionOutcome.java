@@ -0,0 +1,10 @@
+package request.management.project.model;
+
+public enum TransitionOutcome {
+    APPROVED,
+    UNAPPROVED,
+    ALREADY_APPROVED,
+    ALREADY_UNAPPROVED,
+    NOT_FOUND,
+    EMPTY_REASON
+}
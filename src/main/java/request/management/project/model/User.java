@@ -9,23 +9,37 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.springframework.lang.Nullable;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@NaturalIdCache(region = "users-natural-id")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
+@SequenceGenerator(name = BaseEntity.ID_GENERATOR, sequenceName = "user_id_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
 @Table(name = "users")
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class User extends BaseEntity<Long> {
     @NotBlank
+    @NaturalId(mutable = true)
     private String username;
 
     @NotBlank
     private String cpf;
 
+    @JsonIgnore
+    private Long cpfDigits;
+
     @NotBlank
     private String email;
 
@@ -43,12 +57,38 @@ public class User extends BaseEntity<Long> {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDate birthDate;
 
+    @Nullable
     @Enumerated(EnumType.STRING)
     private Gender gender;
 
     @Enumerated(EnumType.STRING)
     private UserType userType;
 
+    @BatchSize(size = 100)
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "owner")
     private List<Request> requests;
+
+    public static Long toCpfDigits(String cpf) {
+        if (cpf == null)
+            return null;
+
+        var digits = new StringBuilder(11);
+
+        for (int i = 0; i < cpf.length(); i++) {
+            if (Character.isDigit(cpf.charAt(i)))
+                digits.append(cpf.charAt(i));
+        }
+
+        return digits.isEmpty() ? null : Long.parseLong(digits.toString());
+    }
+
+    @Override
+    public void prePersistAction() {
+        cpfDigits = toCpfDigits(cpf);
+    }
+
+    @Override
+    public void preUpdateAction() {
+        cpfDigits = toCpfDigits(cpf);
+    }
 }
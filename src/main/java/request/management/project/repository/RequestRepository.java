@@ -1,13 +1,69 @@
 package request.management.project.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import request.management.project.dto.RequestSummaryDto;
 import request.management.project.model.Request;
 import request.management.project.model.RequestStatus;
-import request.management.project.model.User;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface RequestRepository extends IRepository<Request, Long> {
-    List<Request> findAllByOwner(User owner, Sort sort);
-    List<Request> findAllByRequestStatusIn(List<RequestStatus> requestStatus, Sort sort);
+    <P> List<P> findAllByOwnerId(Long ownerId, Sort sort, Class<P> type);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Window<Request> findAllByOwnerId(Long ownerId, ScrollPosition position, Sort sort, Limit limit);
+    <P> List<P> findAllByRequestStatusIn(List<RequestStatus> requestStatus, Sort sort, Class<P> type);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Window<Request> findAllByRequestStatusIn(List<RequestStatus> requestStatus, ScrollPosition position, Sort sort, Limit limit);
+    <P> List<P> findAllBy(Sort sort, Class<P> type);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Request> streamAllByRequestStatusIn(List<RequestStatus> requestStatus, Sort sort);
+
+    @Query("select new request.management.project.dto.RequestSummaryDto(r.requestStatus, r.requestType, r.area, count(r), sum(r.totalCost), sum(r.workload)) " +
+            "from Request r group by r.requestStatus, r.requestType, r.area order by r.requestStatus, r.requestType, r.area")
+    List<RequestSummaryDto> summarize();
+
+    @Query("select new request.management.project.dto.RequestSummaryDto(r.requestStatus, r.requestType, r.area, count(r), sum(r.totalCost), sum(r.workload)) " +
+            "from Request r where r.ownerId = :ownerId group by r.requestStatus, r.requestType, r.area order by r.requestStatus, r.requestType, r.area")
+    List<RequestSummaryDto> summarizeByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Query("select distinct r.ownerId from Request r")
+    List<Long> findOwnerIds();
+
+    @Query("select r.ownerId as ownerId, r.requestStatus as requestStatus, r.requestType as requestType, " +
+            "count(r) as requestCount, sum(cast(r.totalCost as double)) as totalCost, sum(r.workload) as totalWorkload " +
+            "from Request r where r.ownerId = :ownerId group by r.ownerId, r.requestStatus, r.requestType")
+    List<RequestStatsView> aggregateStatsByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Request r where r.ownerId = :ownerId")
+    int deleteAllByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Request r set r.requestStatus = :to, r.disapproveReason = :reason where r.id = :id and r.requestStatus = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") RequestStatus from, @Param("to") RequestStatus to, @Param("reason") String reason);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r.id as id, r.requestStatus as requestStatus from Request r where r.id in :ids")
+    List<RequestStatusView> findStatusesForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Request r set r.requestStatus = :to, r.disapproveReason = :reason where r.id in :ids and r.requestStatus = :from")
+    int transitionStatuses(@Param("ids") Collection<Long> ids, @Param("from") RequestStatus from, @Param("to") RequestStatus to, @Param("reason") String reason);
 }
@@ -0,0 +1,29 @@
+package request.management.project.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import request.management.project.dto.RequestStatsDto;
+import request.management.project.model.RequestStats;
+import request.management.project.model.RequestStatsId;
+
+import java.util.List;
+
+public interface RequestStatsRepository extends JpaRepository<RequestStats, RequestStatsId> {
+    @Query("select new request.management.project.dto.RequestStatsDto(s.id.requestStatus, s.id.requestType, sum(s.requestCount), sum(s.totalCost), sum(s.totalWorkload)) " +
+            "from RequestStats s group by s.id.requestStatus, s.id.requestType order by s.id.requestStatus, s.id.requestType")
+    List<RequestStatsDto> aggregateTotals();
+
+    @Query("select new request.management.project.dto.RequestStatsDto(s.id.requestStatus, s.id.requestType, s.requestCount, s.totalCost, s.totalWorkload) " +
+            "from RequestStats s where s.id.ownerId = :ownerId order by s.id.requestStatus, s.id.requestType")
+    List<RequestStatsDto> summarizeByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Query("select distinct s.id.ownerId from RequestStats s")
+    List<Long> findOwnerIds();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from RequestStats s where s.id.ownerId = :ownerId order by s.id.requestStatus, s.id.requestType")
+    List<RequestStats> findAllByOwnerIdForUpdate(@Param("ownerId") Long ownerId);
+}
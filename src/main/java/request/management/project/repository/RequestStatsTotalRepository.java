@@ -0,0 +1,21 @@
+package request.management.project.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import request.management.project.dto.RequestStatsDto;
+import request.management.project.model.RequestStatsTotal;
+import request.management.project.model.RequestStatsTotalId;
+
+import java.util.List;
+
+public interface RequestStatsTotalRepository extends JpaRepository<RequestStatsTotal, RequestStatsTotalId> {
+    @Query("select new request.management.project.dto.RequestStatsDto(t.id.requestStatus, t.id.requestType, t.requestCount, t.totalCost, t.totalWorkload) " +
+            "from RequestStatsTotal t order by t.id.requestStatus, t.id.requestType")
+    List<RequestStatsDto> summarize();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from RequestStatsTotal t order by t.id.requestStatus, t.id.requestType")
+    List<RequestStatsTotal> findAllForUpdate();
+}
@@ -0,0 +1,13 @@
+package request.management.project.repository;
+
+import request.management.project.model.RequestStatus;
+import request.management.project.model.RequestType;
+
+public interface RequestStatsView {
+    Long getOwnerId();
+    RequestStatus getRequestStatus();
+    RequestType getRequestType();
+    Long getRequestCount();
+    Double getTotalCost();
+    Long getTotalWorkload();
+}
@@ -0,0 +1,8 @@
+package request.management.project.repository;
+
+import request.management.project.model.RequestStatus;
+
+public interface RequestStatusView {
+    Long getId();
+    RequestStatus getRequestStatus();
+}
@@ -0,0 +1,9 @@
+package request.management.project.repository;
+
+import request.management.project.model.User;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+    Optional<User> findByUsername(String username);
+}
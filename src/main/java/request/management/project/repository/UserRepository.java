@@ -1,11 +1,16 @@
 package request.management.project.repository;
 
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import request.management.project.model.User;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends IRepository<User, Long> {
-    Optional<User> findByUsername(String username);
-    Optional<User> findByCpf(String cpf);
+public interface UserRepository extends IRepository<User, Long>, UserNaturalIdRepository {
+    Optional<User> findByCpfDigits(Long cpfDigits);
     Optional<User> findByEmail(String email);
+    <P> List<P> findAllBy(Sort sort, Class<P> type);
+    @EntityGraph(attributePaths = "requests")
+    List<User> findAllWithRequestsBy(Sort sort);
 }
@@ -0,0 +1,39 @@
+package request.management.project.response;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import request.management.project.model.ImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Component
+public class ImportRecordReader {
+
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .findAndAddModules()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public <T> MappingIterator<T> open(InputStream inputStream, ImportFormat format, Class<T> type) throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.readerFor(type)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValues(inputStream);
+            case CSV -> csvMapper.readerFor(type)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(inputStream);
+        };
+    }
+}
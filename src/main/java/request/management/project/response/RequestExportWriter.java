@@ -0,0 +1,73 @@
+package request.management.project.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import request.management.project.dto.RequestDto;
+import request.management.project.model.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+public class RequestExportWriter {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .findAndAddModules()
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void write(Stream<RequestDto> requests, ExportFormat format, OutputStream outputStream) throws IOException {
+        switch (format) {
+            case JSON -> writeJsonArray(requests.iterator(), outputStream);
+            case NDJSON -> writeSequence(requests.iterator(), streamingWriter(objectMapper.writer())
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream));
+            case CSV -> writeSequence(requests.iterator(), streamingWriter(csvMapper.writer(csvMapper.schemaFor(RequestDto.class).withHeader()))
+                    .writeValues(outputStream));
+        }
+
+        outputStream.flush();
+    }
+
+    private void writeJsonArray(Iterator<RequestDto> requests, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeSequence(requests, streamingWriter(objectMapper.writer()).writeValuesAsArray(generator));
+        }
+    }
+
+    private void writeSequence(Iterator<RequestDto> requests, SequenceWriter writer) throws IOException {
+        try (writer) {
+            int written = 0;
+
+            while (requests.hasNext()) {
+                writer.write(requests.next());
+
+                if (++written % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+    }
+
+    private ObjectWriter streamingWriter(ObjectWriter writer) {
+        return writer
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
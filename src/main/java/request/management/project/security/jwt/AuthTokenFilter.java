@@ -1,11 +1,16 @@
 package request.management.project.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -25,15 +30,40 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${project.jwtStatelessAuthentication:false}")
+    private boolean statelessAuthentication;
+
+    private Timer parseTimer;
+
+    private Timer claimsLookupTimer;
+
+    private Timer databaseLookupTimer;
+
+    @PostConstruct
+    public void init() {
+        parseTimer = Timer.builder("auth.token.parse").register(meterRegistry);
+        claimsLookupTimer = Timer.builder("auth.user.lookup").tag("source", "claims").register(meterRegistry);
+        databaseLookupTimer = Timer.builder("auth.user.lookup").tag("source", "database").register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
 
-            if (jwt != null && jwtUtils.validateToken(jwt)){
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            JwtValidationResult validation = jwt != null ? parseTimer.record(() -> jwtUtils.parseAndValidate(jwt)) : null;
+
+            if (validation != null && validation.isValid()){
+                Claims claims = validation.getClaims();
+
+                UserDetails userDetails = statelessAuthentication ? claimsLookupTimer.record(() -> jwtUtils.getUserDetailsFromClaims(claims)) : null;
+
+                if (userDetails == null)
+                    userDetails = databaseLookupTimer.record(() -> userDetailsService.loadUserByUsername(claims.getSubject()));
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities()
                 );
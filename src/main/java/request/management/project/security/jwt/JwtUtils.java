@@ -1,51 +1,97 @@
 package request.management.project.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import request.management.project.model.UserType;
 import request.management.project.security.services.UserDetailsImpl;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 @Component
 public class JwtUtils {
+    public static final String ID_CLAIM = "id";
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${project.jwtSecret}")
     private String jwtSecret;
 
     @Value("${project.jwtExpirationMs}")
     private int jwtExpirationMs;
 
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     public String generateJwtToken(Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Date issuedAt = new Date();
 
         return Jwts.builder()
                 .subject(userDetails.getUsername())
-                .issuedAt(new Date())
-                .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .claim(ID_CLAIM, userDetails.getId())
+                .claim(ROLE_CLAIM, userDetails.getUserType().name())
+                .issuedAt(issuedAt)
+                .expiration(new Date(issuedAt.getTime() + jwtExpirationMs))
+                .signWith(signingKey)
                 .compact();
     }
 
+    public JwtValidationResult parseAndValidate(String token) {
+        if (token == null || token.isBlank()) {
+            return JwtValidationResult.invalid(JwtValidationError.EMPTY);
+        }
+
+        try {
+            return JwtValidationResult.valid(jwtParser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException exception) {
+            return JwtValidationResult.invalid(JwtValidationError.EXPIRED);
+        } catch (SecurityException exception) {
+            return JwtValidationResult.invalid(JwtValidationError.INVALID_SIGNATURE);
+        } catch (UnsupportedJwtException exception) {
+            return JwtValidationResult.invalid(JwtValidationError.UNSUPPORTED);
+        } catch (JwtException | IllegalArgumentException exception) {
+            return JwtValidationResult.invalid(JwtValidationError.MALFORMED);
+        }
+    }
+
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload().getSubject();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+    public UserDetailsImpl getUserDetailsFromClaims(Claims claims) {
+        Object id = claims.get(ID_CLAIM);
+        String role = claims.get(ROLE_CLAIM, String.class);
+
+        if (!(id instanceof Number numericId) || role == null) {
+            return null;
         }
+
+        return UserDetailsImpl.build(numericId.longValue(), claims.getSubject(), UserType.valueOf(role));
+    }
+
+    public boolean validateToken(String token) {
+        return parseAndValidate(token).isValid();
     }
 }
@@ -0,0 +1,9 @@
+package request.management.project.security.jwt;
+
+public enum JwtValidationError {
+    EXPIRED,
+    INVALID_SIGNATURE,
+    MALFORMED,
+    UNSUPPORTED,
+    EMPTY
+}
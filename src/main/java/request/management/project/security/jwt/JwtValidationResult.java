@@ -0,0 +1,26 @@
+package request.management.project.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtValidationResult {
+    private final Claims claims;
+
+    private final JwtValidationError error;
+
+    public static JwtValidationResult valid(Claims claims) {
+        return new JwtValidationResult(claims, null);
+    }
+
+    public static JwtValidationResult invalid(JwtValidationError error) {
+        return new JwtValidationResult(null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import request.management.project.model.User;
+import request.management.project.model.UserType;
 
 import java.io.Serial;
 import java.util.ArrayList;
@@ -47,6 +48,32 @@ public class UserDetailsImpl implements UserDetails {
         );
     }
 
+    public static UserDetailsImpl build(Long id, String username, UserType userType) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+
+        authorities.add(new SimpleGrantedAuthority(userType.name()));
+
+        return new UserDetailsImpl(
+                id,
+                username,
+                null,
+                null,
+                null,
+                authorities
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UserType getUserType() {
+        return authorities.stream()
+                .map(authority -> UserType.valueOf(authority.getAuthority()))
+                .findFirst()
+                .orElseThrow();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -2,6 +2,7 @@ package request.management.project.security.services;
 
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -11,16 +12,18 @@ import request.management.project.repository.UserRepository;
 
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
+    public static final String PRINCIPAL_CACHE = "principals";
+
     @Autowired
     UserRepository userRepository;
 
     @Override
     @Transactional
+    @Cacheable(cacheNames = PRINCIPAL_CACHE)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User foundUser = userRepository
                 .findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("User not found with username:" + username));
 
         return UserDetailsImpl.build(foundUser);
     }
-
 }
@@ -1,20 +1,40 @@
 package request.management.project.service;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.annotation.Transactional;
 import request.management.project.dto.BaseDto;
+import request.management.project.dto.CursorPageDto;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.mapper.GenericMapper;
 import request.management.project.model.BaseEntity;
 import request.management.project.repository.IRepository;
 
 import java.util.List;
+import java.util.function.Function;
 
-@AllArgsConstructor
+@Timed("service")
 public class CrudService<T extends BaseDto<Long>, E extends BaseEntity<Long>> implements ICrudService<T> {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     protected GenericMapper<T, E> mapper;
     protected IRepository<E, Long> repository;
 
+    @Autowired
+    protected CursorCodec cursorCodec;
+
+    public CrudService(GenericMapper<T, E> mapper, IRepository<E, Long> repository) {
+        this.mapper = mapper;
+        this.repository = repository;
+    }
+
     @Override
     public T find(Long id) {
         return repository.findById(id).map(mapper::toDto).orElseThrow();
@@ -25,11 +45,22 @@ public class CrudService<T extends BaseDto<Long>, E extends BaseEntity<Long>> im
         return repository.findAll(Sort.by(direction, property)).stream().map(mapper::toDto).toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<T> findAll(Sort.Direction direction, String property, String cursor, Integer size) throws InvalidCursorException {
+        return toPage(repository.findAllBy(decodeCursor(cursor, property), cursorSort(direction, property), pageLimit(size)));
+    }
+
     @Override
     public T create(T dto) {
         return mapper.toDto(repository.save(mapper.toEntity(dto)));
     }
 
+    @Override
+    public List<T> createAll(List<T> dtos) {
+        return repository.saveAll(dtos.stream().map(mapper::toEntity).toList()).stream().map(mapper::toDto).toList();
+    }
+
     @Override
     public T update(Long id, T dto) {
         find(id);
@@ -42,4 +73,44 @@ public class CrudService<T extends BaseDto<Long>, E extends BaseEntity<Long>> im
         find(id);
         repository.deleteById(id);
     }
+
+    protected ScrollPosition decodeCursor(String cursor, String property) throws InvalidCursorException {
+        return cursorCodec.decode(cursor, entityClass(), property);
+    }
+
+    protected Sort cursorSort(Sort.Direction direction, String property) {
+        return cursorCodec.sort(direction, property);
+    }
+
+    protected Limit pageLimit(Integer size) {
+        if (size == null) {
+            return Limit.of(DEFAULT_PAGE_SIZE);
+        }
+
+        return Limit.of(Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    protected CursorPageDto<T> toPage(Window<E> window) {
+        return toPage(window, mapper::toDto);
+    }
+
+    protected <D> CursorPageDto<D> toPage(Window<E> window, Function<E, D> converter) {
+        String nextCursor = null;
+
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = cursorCodec.encode(window.positionAt(window.size() - 1));
+        }
+
+        return new CursorPageDto<>(window.map(converter).getContent(), nextCursor, nextCursor != null);
+    }
+
+    private Class<?> entityClass() {
+        var typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), CrudService.class);
+
+        if (typeArguments == null) {
+            throw new IllegalStateException("Could not resolve the entity type of " + getClass().getName());
+        }
+
+        return typeArguments[1];
+    }
 }
@@ -0,0 +1,93 @@
+package request.management.project.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import request.management.project.exceptions.InvalidCursorException;
+
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class CursorCodec {
+
+    private static final String ID_PROPERTY = "id";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(keyset.getKeys()));
+        } catch (Exception exception) {
+            throw new IllegalStateException("Could not encode the pagination cursor", exception);
+        }
+    }
+
+    public Sort sort(Sort.Direction direction, String property) {
+        if (ID_PROPERTY.equals(property)) {
+            return Sort.by(direction, ID_PROPERTY);
+        }
+
+        return Sort.by(direction, property).and(Sort.by(direction, ID_PROPERTY));
+    }
+
+    public KeysetScrollPosition decode(String cursor, Class<?> entityClass, String property) throws InvalidCursorException {
+        if (isNullable(PropertyPath.from(property, entityClass))) {
+            throw new InvalidCursorException("Cursor pagination can't sort by the nullable property " + property);
+        }
+
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> rawKeys;
+        try {
+            rawKeys = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<>() {});
+        } catch (Exception exception) {
+            throw new InvalidCursorException();
+        }
+
+        if (rawKeys == null || !rawKeys.keySet().equals(new HashSet<>(List.of(property, ID_PROPERTY)))) {
+            throw new InvalidCursorException();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            for (var entry : rawKeys.entrySet()) {
+                var type = PropertyPath.from(entry.getKey(), entityClass).getLeafType();
+                keys.put(entry.getKey(), objectMapper.convertValue(entry.getValue(), type));
+            }
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidCursorException();
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    private boolean isNullable(PropertyPath path) {
+        for (var segment : path) {
+            var field = ReflectionUtils.findField(segment.getOwningType().getType(), segment.getSegment());
+
+            if (field != null && field.isAnnotationPresent(Nullable.class)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -2,13 +2,17 @@ package request.management.project.service;
 
 import org.springframework.data.domain.Sort;
 import request.management.project.dto.BaseDto;
+import request.management.project.dto.CursorPageDto;
+import request.management.project.exceptions.InvalidCursorException;
 
 import java.util.List;
 
 public interface ICrudService<T extends BaseDto<Long>>{
     T find(Long id);
     List<T> findAll(Sort.Direction direction, String property);
+    CursorPageDto<T> findAll(Sort.Direction direction, String property, String cursor, Integer size) throws InvalidCursorException;
     T create(T dto);
+    List<T> createAll(List<T> dtos);
     T update(Long id, T dto);
     void delete(Long id);
 }
@@ -0,0 +1,262 @@
+package request.management.project.service;
+
+import br.com.caelum.stella.validation.CPFValidator;
+import br.com.caelum.stella.validation.InvalidStateException;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.databind.MappingIterator;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import request.management.project.dto.BaseDto;
+import request.management.project.dto.ImportErrorDto;
+import request.management.project.dto.ImportReportDto;
+import request.management.project.dto.RequestDto;
+import request.management.project.dto.UserDto;
+import request.management.project.dto.auth.RegisterRequestDto;
+import request.management.project.exceptions.PasswordHashingBusyException;
+import request.management.project.mapper.GenericMapper;
+import request.management.project.model.EnumMessage;
+import request.management.project.model.ImportFormat;
+import request.management.project.model.LoginIdentifier;
+import request.management.project.model.Request;
+import request.management.project.model.RequestStatus;
+import request.management.project.model.User;
+import request.management.project.response.ImportRecordReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ImportService {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private static final int WORKERS = Runtime.getRuntime().availableProcessors();
+
+    private final ExecutorService workers = new ThreadPoolExecutor(WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(CHUNK_SIZE), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    @Autowired
+    private ImportRecordReader recordReader;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private GenericMapper<UserDto, User> userMapper;
+
+    @Autowired
+    private GenericMapper<RequestDto, Request> requestMapper;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private CPFValidator cpfValidator;
+
+    @Autowired
+    private Validator validator;
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    public ImportReportDto importUsers(InputStream inputStream, ImportFormat format) throws IOException {
+        return importRecords(recordReader.open(inputStream, format, RegisterRequestDto.class), this::toUserDto, userService);
+    }
+
+    public ImportReportDto importRequests(InputStream inputStream, ImportFormat format, Long ownerId, boolean forceOwner) throws IOException {
+        return importRecords(recordReader.open(inputStream, format, RequestDto.class), dto -> toRequestDto(dto, ownerId, forceOwner), requestService);
+    }
+
+    private <R, T extends BaseDto<Long>> ImportReportDto importRecords(MappingIterator<R> records, Function<R, T> converter, ICrudService<T> service) throws IOException {
+        var report = new ImportReportDto();
+        var lines = new ArrayList<Long>();
+        var chunk = new ArrayList<R>();
+
+        try (records) {
+            JsonLocation lastFailedLocation = null;
+            long lastFailedLine = 0;
+
+            while (true) {
+                long line = 0;
+
+                try {
+                    if (!records.hasNextValue())
+                        break;
+
+                    line = records.getParser().currentLocation().getLineNr();
+                    chunk.add(records.nextValue());
+                    lines.add(line);
+                } catch (IOException | RuntimeException exception) {
+                    var location = records.getParser().currentLocation();
+
+                    if (line == 0)
+                        line = location.getLineNr();
+
+                    if (line != lastFailedLine) {
+                        report.getErrors().add(new ImportErrorDto(line, "Unreadable record"));
+                        report.setTotal(report.getTotal() + 1);
+                        lastFailedLine = line;
+                    }
+
+                    if (location.equals(lastFailedLocation))
+                        break;
+
+                    lastFailedLocation = location;
+                    continue;
+                }
+
+                report.setTotal(report.getTotal() + 1);
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(lines, chunk, converter, service, report);
+                    lines.clear();
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty())
+                importChunk(lines, chunk, converter, service, report);
+        }
+
+        report.getErrors().sort((first, second) -> Long.compare(first.getLine(), second.getLine()));
+
+        return report;
+    }
+
+    private <R, T extends BaseDto<Long>> void importChunk(List<Long> lines, List<R> chunk, Function<R, T> converter, ICrudService<T> service, ImportReportDto report) {
+        var conversions = new ArrayList<Future<T>>();
+
+        for (var record : chunk) {
+            conversions.add(workers.submit(() -> converter.apply(record)));
+        }
+
+        var validLines = new ArrayList<Long>();
+        var validDtos = new ArrayList<T>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                validDtos.add(conversions.get(i).get());
+                validLines.add(lines.get(i));
+            } catch (ExecutionException exception) {
+                report.getErrors().add(new ImportErrorDto(lines.get(i), errorMessage(exception.getCause())));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(exception);
+            }
+        }
+
+        if (validDtos.isEmpty())
+            return;
+
+        try {
+            service.createAll(validDtos);
+            report.setImported(report.getImported() + validDtos.size());
+        } catch (RuntimeException batchFailure) {
+            for (int i = 0; i < validDtos.size(); i++) {
+                try {
+                    service.create(validDtos.get(i));
+                    report.setImported(report.getImported() + 1);
+                } catch (RuntimeException exception) {
+                    report.getErrors().add(new ImportErrorDto(validLines.get(i), errorMessage(exception)));
+                }
+            }
+        }
+    }
+
+    private UserDto toUserDto(RegisterRequestDto record) {
+        var userDto = new UserDto();
+        userDto.setUsername(record.getUsername());
+        userDto.setName(record.getName());
+        userDto.setRegistrationNumber(record.getRegistrationNumber());
+        userDto.setBirthDate(record.getBirthDate());
+        userDto.setGender(record.getGender());
+        userDto.setUserType(record.getUserType());
+        userDto.setEmail(record.getEmail());
+        userDto.setCpf(record.getCpf());
+
+        if (record.getCpf() != null && LoginIdentifier.CPF_PATTERN.matcher(record.getCpf()).matches())
+            userDto.setCpf(LoginIdentifier.formatCpf(record.getCpf()));
+
+        if (userDto.getCpf() == null || !LoginIdentifier.CPF_WITH_SYMBOLS_PATTERN.matcher(userDto.getCpf()).matches())
+            throw new IllegalArgumentException(EnumMessage.INVALID_CPF.message());
+
+        cpfValidator.assertValid(userDto.getCpf());
+
+        if (record.getEmail() == null || !LoginIdentifier.EMAIL_PATTERN.matcher(record.getEmail()).matches())
+            throw new IllegalArgumentException("Invalid email!");
+
+        if (record.getPassword() == null || record.getPassword().isBlank())
+            throw new IllegalArgumentException("Password is required!");
+
+        try {
+            userDto.setPassword(passwordHashingService.encode(record.getPassword()));
+        } catch (PasswordHashingBusyException exception) {
+            throw new IllegalStateException(exception.getMessage(), exception);
+        }
+
+        assertValidEntity(userMapper.toEntity(userDto));
+
+        return userDto;
+    }
+
+    private RequestDto toRequestDto(RequestDto record, Long ownerId, boolean forceOwner) {
+        record.setId(null);
+        record.setRequestStatus(RequestStatus.CREATED);
+        record.setDisapproveReason(null);
+
+        if (forceOwner || record.getOwnerId() == null)
+            record.setOwnerId(ownerId);
+
+        if (record.getRequestDate() == null)
+            record.setRequestDate(LocalDateTime.now());
+
+        assertValidEntity(requestMapper.toEntity(record));
+
+        return record;
+    }
+
+    private void assertValidEntity(Object entity) {
+        var violations = validator.validate(entity);
+
+        if (!violations.isEmpty())
+            throw new ConstraintViolationException(violations);
+    }
+
+    private String errorMessage(Throwable exception) {
+        if (exception instanceof ConstraintViolationException violationException) {
+            return violationException.getConstraintViolations().stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        if (exception instanceof InvalidStateException)
+            return EnumMessage.INVALID_CPF.message();
+
+        if (exception instanceof DataIntegrityViolationException)
+            return EnumMessage.CONSTRAINT_VIOLATION_MESSAGE.message();
+
+        if (exception instanceof IllegalArgumentException)
+            return exception.getMessage();
+
+        if (exception.getCause() instanceof PasswordHashingBusyException)
+            return exception.getMessage();
+
+        return EnumMessage.CONSTRAINT_VIOLATION_MESSAGE.message();
+    }
+}
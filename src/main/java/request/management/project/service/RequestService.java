@@ -1,27 +1,45 @@
 package request.management.project.service;
 
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import request.management.project.dto.CursorPageDto;
 import request.management.project.dto.RequestDto;
-import request.management.project.dto.UserDto;
+import request.management.project.dto.RequestStatsDto;
+import request.management.project.dto.RequestSummaryDto;
+import request.management.project.dto.TransitionResultDto;
 import request.management.project.exceptions.EmptyReasonException;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.exceptions.RequestAlreadyApprovedException;
 import request.management.project.exceptions.RequestAlreadyUnapprovedException;
 import request.management.project.mapper.GenericMapper;
 import request.management.project.model.Request;
 import request.management.project.model.RequestStatus;
 import request.management.project.model.DisapproveReason;
-import request.management.project.model.User;
+import request.management.project.model.RequestDisapproval;
+import request.management.project.model.TransitionOutcome;
+import request.management.project.model.ExportFormat;
 import request.management.project.repository.IRepository;
 import request.management.project.repository.RequestRepository;
+import request.management.project.repository.RequestStatsRepository;
+import request.management.project.repository.RequestStatsTotalRepository;
+import request.management.project.response.RequestExportWriter;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
 
 @Service
+@Timed("service")
 public class RequestService extends CrudService<RequestDto, Request> {
 
+    public static final int BULK_CHUNK_SIZE = 1000;
+
     @Autowired
     private RequestRepository repository;
 
@@ -29,7 +47,19 @@ public class RequestService extends CrudService<RequestDto, Request> {
     private GenericMapper<RequestDto, Request> mapper;
 
     @Autowired
-    private GenericMapper<UserDto, User> userMapper;
+    private RequestStatsRepository requestStatsRepository;
+
+    @Autowired
+    private RequestStatsTotalRepository requestStatsTotalRepository;
+
+    @Autowired
+    private RequestExportWriter exportWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
     public RequestService(GenericMapper<RequestDto, Request> mapper, IRepository<Request, Long> repository) {
@@ -64,19 +94,13 @@ public class RequestService extends CrudService<RequestDto, Request> {
 
     @Transactional
     public RequestDto approveRequest(Long id) throws RequestAlreadyUnapprovedException, RequestAlreadyApprovedException {
-        var request = find(id);
-
-        if (request.getRequestStatus().equals(RequestStatus.UNAPPROVED)) {
-            throw new RequestAlreadyUnapprovedException();
+        if (repository.transitionStatus(id, RequestStatus.CREATED, RequestStatus.APPROVED, null) == 0) {
+            throwTransitionFailure(id);
         }
 
-        if (request.getRequestStatus().equals(RequestStatus.APPROVED)) {
-            throw new RequestAlreadyApprovedException();
-        }
+        countTransition(TransitionOutcome.APPROVED);
 
-        request.setRequestStatus(RequestStatus.APPROVED);
-
-        return super.update(id, request);
+        return find(id);
     }
 
     @Transactional
@@ -85,27 +109,181 @@ public class RequestService extends CrudService<RequestDto, Request> {
             throw new EmptyReasonException();
         }
 
+        if (repository.transitionStatus(id, RequestStatus.CREATED, RequestStatus.UNAPPROVED, reason.getReason()) == 0) {
+            throwTransitionFailure(id);
+        }
+
+        countTransition(TransitionOutcome.UNAPPROVED);
+
+        return find(id);
+    }
+
+    @Transactional
+    public List<TransitionResultDto> approveRequests(List<Long> ids) {
+        var outcomes = new LinkedHashMap<Long, TransitionOutcome>();
+
+        for (var chunk : chunks(new ArrayList<>(new LinkedHashSet<>(ids)))) {
+            var statuses = lockStatuses(chunk);
+            var approvable = new ArrayList<Long>();
+
+            for (var id : chunk) {
+                var status = statuses.get(id);
+
+                if (RequestStatus.CREATED.equals(status)) {
+                    approvable.add(id);
+                    outcomes.put(id, TransitionOutcome.APPROVED);
+                } else {
+                    outcomes.put(id, failedOutcome(status));
+                }
+            }
+
+            if (!approvable.isEmpty())
+                repository.transitionStatuses(approvable, RequestStatus.CREATED, RequestStatus.APPROVED, null);
+        }
+
+        return toResults(outcomes);
+    }
+
+    @Transactional
+    public List<TransitionResultDto> disapproveRequests(List<RequestDisapproval> disapprovals) {
+        var reasons = new LinkedHashMap<Long, String>();
+        var outcomes = new LinkedHashMap<Long, TransitionOutcome>();
+
+        for (var disapproval : disapprovals) {
+            reasons.putIfAbsent(disapproval.getId(), disapproval.getReason());
+        }
+
+        for (var chunk : chunks(new ArrayList<>(reasons.keySet()))) {
+            var statuses = lockStatuses(chunk);
+            var idsByReason = new LinkedHashMap<String, List<Long>>();
+
+            for (var id : chunk) {
+                var status = statuses.get(id);
+                var reason = reasons.get(id);
+
+                if (status == null) {
+                    outcomes.put(id, TransitionOutcome.NOT_FOUND);
+                } else if (reason == null || reason.isEmpty()) {
+                    outcomes.put(id, TransitionOutcome.EMPTY_REASON);
+                } else if (status.equals(RequestStatus.CREATED)) {
+                    idsByReason.computeIfAbsent(reason, key -> new ArrayList<>()).add(id);
+                    outcomes.put(id, TransitionOutcome.UNAPPROVED);
+                } else {
+                    outcomes.put(id, failedOutcome(status));
+                }
+            }
+
+            idsByReason.forEach((reason, reasonIds) ->
+                    repository.transitionStatuses(reasonIds, RequestStatus.CREATED, RequestStatus.UNAPPROVED, reason));
+        }
+
+        return toResults(outcomes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestDto> findAll(Sort.Direction direction, String property) {
+        return repository.findAllBy(Sort.by(direction, property), RequestDto.class);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestDto> listAllByOwner(Long ownerId, Sort.Direction direction, String property) {
+        return repository.findAllByOwnerId(ownerId, Sort.by(direction, property), RequestDto.class);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<RequestDto> listAllByOwner(Long ownerId, Sort.Direction direction, String property, String cursor, Integer size) throws InvalidCursorException {
+        return toPage(repository.findAllByOwnerId(ownerId, decodeCursor(cursor, property), cursorSort(direction, property), pageLimit(size)));
+    }
+
+    public List<RequestSummaryDto> summarize() {
+        return repository.summarize();
+    }
+
+    public List<RequestSummaryDto> summarizeByOwner(Long ownerId) {
+        return repository.summarizeByOwnerId(ownerId);
+    }
+
+    public List<RequestStatsDto> listStats() {
+        return requestStatsTotalRepository.summarize();
+    }
+
+    public List<RequestStatsDto> listStatsByOwner(Long ownerId) {
+        return requestStatsRepository.summarizeByOwnerId(ownerId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestDto> listAllByStatus(List<RequestStatus> statusList, Sort.Direction direction, String property) {
+        return repository.findAllByRequestStatusIn(statusList, Sort.by(direction, property), RequestDto.class);
+    }
+
+    @Transactional
+    public void exportByStatus(List<RequestStatus> statusList, Sort.Direction direction, String property, ExportFormat format, OutputStream outputStream) throws IOException {
+        try (var requests = repository.streamAllByRequestStatusIn(statusList, Sort.by(direction, property))) {
+            exportWriter.write(requests.map(request -> {
+                var dto = mapper.toDto(request);
+                entityManager.detach(request);
+                return dto;
+            }), format, outputStream);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<RequestDto> listAllByStatus(List<RequestStatus> statusList, Sort.Direction direction, String property, String cursor, Integer size) throws InvalidCursorException {
+        return toPage(repository.findAllByRequestStatusIn(statusList, decodeCursor(cursor, property), cursorSort(direction, property), pageLimit(size)));
+    }
+
+    private void throwTransitionFailure(Long id) throws RequestAlreadyUnapprovedException, RequestAlreadyApprovedException {
         var request = find(id);
 
         if (request.getRequestStatus().equals(RequestStatus.UNAPPROVED)) {
+            countTransition(TransitionOutcome.ALREADY_UNAPPROVED);
             throw new RequestAlreadyUnapprovedException();
         }
 
-        if (request.getRequestStatus().equals(RequestStatus.APPROVED)) {
-            throw new RequestAlreadyApprovedException();
+        countTransition(TransitionOutcome.ALREADY_APPROVED);
+        throw new RequestAlreadyApprovedException();
+    }
+
+    private Map<Long, RequestStatus> lockStatuses(List<Long> ids) {
+        var statuses = new HashMap<Long, RequestStatus>();
+
+        for (var view : repository.findStatusesForUpdate(ids)) {
+            statuses.put(view.getId(), view.getRequestStatus());
         }
 
-        request.setRequestStatus(RequestStatus.UNAPPROVED);
-        request.setDisapproveReason(reason.getReason());
+        return statuses;
+    }
 
-        return super.update(id, request);
+    private TransitionOutcome failedOutcome(RequestStatus status) {
+        if (status == null)
+            return TransitionOutcome.NOT_FOUND;
+
+        if (status.equals(RequestStatus.UNAPPROVED))
+            return TransitionOutcome.ALREADY_UNAPPROVED;
+
+        return TransitionOutcome.ALREADY_APPROVED;
     }
 
-    public List<RequestDto> listAllByOwner(UserDto loggedUser, Sort.Direction direction, String property) {
-        return repository.findAllByOwner(userMapper.toEntity(loggedUser), Sort.by(direction, property)).stream().map(mapper::toDto).toList();
+    private List<List<Long>> chunks(List<Long> ids) {
+        var chunks = new ArrayList<List<Long>>();
+
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+
+        return chunks;
     }
 
-    public List<RequestDto> listAllByStatus(List<RequestStatus> statusList, Sort.Direction direction, String property) {
-        return repository.findAllByRequestStatusIn(statusList, Sort.by(direction, property)).stream().map(mapper::toDto).toList();
+    private void countTransition(TransitionOutcome outcome) {
+        meterRegistry.counter("request.transitions", "outcome", outcome.name()).increment();
+    }
+
+    private List<TransitionResultDto> toResults(Map<Long, TransitionOutcome> outcomes) {
+        outcomes.values().forEach(this::countTransition);
+
+        return outcomes.entrySet().stream()
+                .map(entry -> new TransitionResultDto(entry.getKey(), entry.getValue()))
+                .toList();
     }
 }
@@ -0,0 +1,170 @@
+package request.management.project.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import request.management.project.dto.RequestStatsDto;
+import request.management.project.model.RequestStats;
+import request.management.project.model.RequestStatsId;
+import request.management.project.model.RequestStatsTotal;
+import request.management.project.model.RequestStatsTotalId;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.RequestStatsRepository;
+import request.management.project.repository.RequestStatsTotalRepository;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class RequestStatsReconciler {
+    private static final double COST_TOLERANCE = 0.01;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestStatsRepository requestStatsRepository;
+
+    @Autowired
+    private RequestStatsTotalRepository requestStatsTotalRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Scheduled(initialDelayString = "${project.requestStats.reconcileDelayMs:3600000}", fixedDelayString = "${project.requestStats.reconcileDelayMs:3600000}")
+    public int reconcile() {
+        var ownerIds = new TreeSet<>(requestRepository.findOwnerIds());
+        ownerIds.addAll(requestStatsRepository.findOwnerIds());
+
+        int repaired = 0;
+
+        for (var ownerId : ownerIds) {
+            try {
+                repaired += reconcile(ownerId);
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException exception) {
+                log.warn("Could not reconcile the request stats of owner {}: {}", ownerId, exception.getMessage());
+            }
+        }
+
+        try {
+            repaired += reconcileTotals();
+        } catch (ConcurrencyFailureException | DataIntegrityViolationException exception) {
+            log.warn("Could not reconcile the request stats totals: {}", exception.getMessage());
+        }
+
+        if (repaired > 0)
+            log.warn("Repaired {} drifted request stats rows", repaired);
+
+        return repaired;
+    }
+
+    public int reconcile(Long ownerId) {
+        return withRetries("owner " + ownerId, () -> reconcileOwner(ownerId));
+    }
+
+    public int reconcileTotals() {
+        return withRetries("totals", this::reconcileTotalRows);
+    }
+
+    private int withRetries(String target, Supplier<Integer> reconciliation) {
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> reconciliation.get());
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException exception) {
+                if (attempt == MAX_ATTEMPTS)
+                    throw exception;
+
+                log.debug("Retrying the request stats {} after: {}", target, exception.getMessage());
+            }
+        }
+    }
+
+    private int reconcileOwner(Long ownerId) {
+        var current = requestStatsRepository.findAllByOwnerIdForUpdate(ownerId);
+        var expected = new HashMap<RequestStatsId, RequestStats>();
+
+        for (var view : requestRepository.aggregateStatsByOwnerId(ownerId)) {
+            var id = new RequestStatsId(view.getOwnerId(), view.getRequestStatus(), view.getRequestType());
+            expected.put(id, new RequestStats(id, view.getRequestCount(), view.getTotalCost(), view.getTotalWorkload()));
+        }
+
+        int repaired = 0;
+
+        for (var stats : current) {
+            var target = expected.remove(stats.getId());
+
+            if (target == null) {
+                requestStatsRepository.delete(stats);
+                repaired++;
+            } else if (hasDrifted(stats, target)) {
+                stats.setRequestCount(target.getRequestCount());
+                stats.setTotalCost(target.getTotalCost());
+                stats.setTotalWorkload(target.getTotalWorkload());
+                repaired++;
+            }
+        }
+
+        requestStatsRepository.saveAll(expected.values());
+        repaired += expected.size();
+
+        return repaired;
+    }
+
+    private int reconcileTotalRows() {
+        var current = requestStatsTotalRepository.findAllForUpdate();
+        var expected = new HashMap<RequestStatsTotalId, RequestStatsDto>();
+
+        for (var totals : requestStatsRepository.aggregateTotals())
+            expected.put(new RequestStatsTotalId(totals.getRequestStatus(), totals.getRequestType()), totals);
+
+        int repaired = 0;
+
+        for (var totals : current) {
+            var target = expected.remove(totals.getId());
+
+            if (target == null) {
+                requestStatsTotalRepository.delete(totals);
+                repaired++;
+            } else if (hasDrifted(totals, target)) {
+                totals.setRequestCount(target.getCount());
+                totals.setTotalCost(target.getTotalCost());
+                totals.setTotalWorkload(target.getTotalWorkload());
+                repaired++;
+            }
+        }
+
+        for (var entry : expected.entrySet()) {
+            var target = entry.getValue();
+            requestStatsTotalRepository.save(new RequestStatsTotal(entry.getKey(), target.getCount(), target.getTotalCost(), target.getTotalWorkload()));
+            repaired++;
+        }
+
+        return repaired;
+    }
+
+    private boolean hasDrifted(RequestStatsTotal current, RequestStatsDto target) {
+        return !Objects.equals(current.getRequestCount(), target.getCount())
+                || !Objects.equals(current.getTotalWorkload(), target.getTotalWorkload())
+                || Math.abs(current.getTotalCost() - target.getTotalCost()) > COST_TOLERANCE;
+    }
+
+    private boolean hasDrifted(RequestStats current, RequestStats target) {
+        return !Objects.equals(current.getRequestCount(), target.getRequestCount())
+                || !Objects.equals(current.getTotalWorkload(), target.getTotalWorkload())
+                || Math.abs(current.getTotalCost() - target.getTotalCost()) > COST_TOLERANCE;
+    }
+}
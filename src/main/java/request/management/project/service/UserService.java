@@ -1,26 +1,49 @@
 package request.management.project.service;
 
 import br.com.caelum.stella.validation.CPFValidator;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import request.management.project.dto.CursorPageDto;
 import request.management.project.dto.UserDto;
+import request.management.project.dto.UserSummaryDto;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.mapper.GenericMapper;
+import request.management.project.mapper.UserMapper;
+import request.management.project.model.LoginIdentifier;
 import request.management.project.model.User;
 import request.management.project.repository.IRepository;
+import request.management.project.repository.RequestRepository;
 import request.management.project.repository.UserRepository;
+import request.management.project.security.services.UserDetailsServiceImpl;
+
+import java.util.List;
 
 @Service
+@Timed("service")
 public class UserService extends CrudService<UserDto, User> {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RequestRepository requestRepository;
+
     @Autowired
     private CPFValidator cpfValidator;
 
     @Autowired
     private GenericMapper<UserDto, User> genericMapper;
 
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @Autowired
     public UserService(GenericMapper<UserDto, User> mapper, IRepository<User, Long> repository) {
         super(mapper, repository);
@@ -32,6 +55,12 @@ public class UserService extends CrudService<UserDto, User> {
         return super.create(dto);
     }
 
+    @Override
+    public List<UserDto> createAll(List<UserDto> dtos) {
+        dtos.forEach(dto -> cpfValidator.assertValid(dto.getCpf()));
+        return super.createAll(dtos);
+    }
+
     @Override
     public UserDto update(Long id, UserDto dto) {
         var foundUser = find(id);
@@ -61,7 +90,34 @@ public class UserService extends CrudService<UserDto, User> {
         if (dto.getRequests() == null)
             dto.setRequests(foundUser.getRequests());
 
-        return super.update(id, dto);
+        var updatedUser = super.update(id, dto);
+        evictPrincipal(foundUser.getUsername());
+
+        return updatedUser;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        var foundUser = find(id);
+        requestRepository.deleteAllByOwnerId(id);
+        repository.deleteById(id);
+        evictPrincipal(foundUser.getUsername());
+    }
+
+    public List<UserSummaryDto> listSummaries(Sort.Direction direction, String property) {
+        return userRepository.findAllBy(Sort.by(direction, property), UserSummaryDto.class);
+    }
+
+    public CursorPageDto<UserSummaryDto> listSummaries(Sort.Direction direction, String property, String cursor, Integer size) throws InvalidCursorException {
+        var window = userRepository.findAllBy(decodeCursor(cursor, property), cursorSort(direction, property), pageLimit(size));
+
+        return toPage(window, userMapper::toSummary);
+    }
+
+    @Override
+    public List<UserDto> findAll(Sort.Direction direction, String property) {
+        return userRepository.findAllWithRequestsBy(Sort.by(direction, property)).stream().map(mapper::toDto).toList();
     }
 
     public UserDto findByUsername(String username) {
@@ -70,14 +126,32 @@ public class UserService extends CrudService<UserDto, User> {
 
     public UserDto findByCpf(String cpf) {
         cpfValidator.assertValid(cpf);
-        return mapper.toDto(userRepository.findByCpf(cpf).orElseThrow());
+        return mapper.toDto(userRepository.findByCpfDigits(User.toCpfDigits(cpf)).orElseThrow());
     }
 
     public UserDto findByEmail(String email) {
         return mapper.toDto(userRepository.findByEmail(email).orElseThrow());
     }
 
+    public User findByLogin(LoginIdentifier identifier) {
+        return switch (identifier.getType()) {
+            case CPF -> {
+                cpfValidator.assertValid(identifier.getValue());
+                yield userRepository.findByCpfDigits(User.toCpfDigits(identifier.getValue())).orElseThrow();
+            }
+            case EMAIL -> userRepository.findByEmail(identifier.getValue()).orElseThrow();
+            case USERNAME -> userRepository.findByUsername(identifier.getValue()).orElseThrow();
+        };
+    }
+
     public User getUserEntityFindByUsername(String username) {
         return userRepository.findByUsername(username).orElseThrow();
     }
+
+    private void evictPrincipal(String username) {
+        var principalCache = cacheManager.getCache(UserDetailsServiceImpl.PRINCIPAL_CACHE);
+
+        if (principalCache != null && username != null)
+            principalCache.evict(username);
+    }
 }
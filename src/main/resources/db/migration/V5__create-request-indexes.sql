@@ -0,0 +1,9 @@
+CREATE INDEX IF NOT EXISTS idx_requests_owner_id_request_date
+    ON public.requests (owner_id, request_date);
+
+CREATE INDEX IF NOT EXISTS idx_requests_request_status_request_date
+    ON public.requests (request_status, request_date);
+
+CREATE INDEX IF NOT EXISTS idx_requests_created_request_date
+    ON public.requests (request_date)
+    WHERE request_status = 'CREATED';
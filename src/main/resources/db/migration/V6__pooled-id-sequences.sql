@@ -0,0 +1,5 @@
+ALTER SEQUENCE public.user_id_seq
+    INCREMENT 50;
+
+ALTER SEQUENCE public.request_id_seq
+    INCREMENT 50;
@@ -0,0 +1,14 @@
+ALTER TABLE IF EXISTS public.users
+    ADD COLUMN cpf_digits bigint;
+
+UPDATE public.users
+    SET cpf_digits = regexp_replace(cpf, '[^0-9]', '', 'g')::bigint;
+
+ALTER TABLE IF EXISTS public.users
+    ALTER COLUMN cpf_digits SET NOT NULL;
+
+ALTER TABLE IF EXISTS public.users
+    DROP CONSTRAINT unique_cpf;
+
+CREATE UNIQUE INDEX unique_cpf
+    ON public.users (cpf_digits);
@@ -0,0 +1,80 @@
+CREATE TABLE public.request_stats
+(
+    owner_id bigint NOT NULL,
+    request_status text NOT NULL,
+    request_type text NOT NULL,
+    request_count bigint NOT NULL,
+    total_cost double precision NOT NULL,
+    total_workload bigint NOT NULL,
+    PRIMARY KEY (owner_id, request_status, request_type)
+);
+
+ALTER TABLE IF EXISTS public.request_stats
+    OWNER to postgres;
+
+INSERT INTO public.request_stats(owner_id, request_status, request_type, request_count, total_cost, total_workload)
+SELECT owner_id, request_status, request_type, count(*), sum(total_cost::double precision), sum(workload)
+FROM public.requests
+GROUP BY owner_id, request_status, request_type;
+
+-- Rows are upserted in key order so concurrent statements lock the same stats rows in the same order.
+CREATE FUNCTION public.apply_request_stats_delta(deltas public.request_stats[]) RETURNS void AS $$
+    INSERT INTO public.request_stats AS stats(owner_id, request_status, request_type, request_count, total_cost, total_workload)
+    SELECT owner_id, request_status, request_type, sum(request_count), sum(total_cost), sum(total_workload)
+    FROM unnest(deltas)
+    GROUP BY owner_id, request_status, request_type
+    ORDER BY owner_id, request_status, request_type
+    ON CONFLICT (owner_id, request_status, request_type) DO UPDATE
+    SET request_count = stats.request_count + EXCLUDED.request_count,
+        total_cost = stats.total_cost + EXCLUDED.total_cost,
+        total_workload = stats.total_workload + EXCLUDED.total_workload;
+
+    DELETE FROM public.request_stats stats
+    USING unnest(deltas) delta
+    WHERE stats.owner_id = delta.owner_id
+        AND stats.request_status = delta.request_status
+        AND stats.request_type = delta.request_type
+        AND stats.request_count <= 0;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION public.apply_request_stats() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM public.apply_request_stats_delta(ARRAY(
+            SELECT (n.owner_id, n.request_status, n.request_type, 1, n.total_cost, n.workload)::public.request_stats
+            FROM new_rows n));
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM public.apply_request_stats_delta(ARRAY(
+            SELECT (o.owner_id, o.request_status, o.request_type, -1, -o.total_cost, -o.workload)::public.request_stats
+            FROM old_rows o));
+    ELSE
+        PERFORM public.apply_request_stats_delta(ARRAY(
+            SELECT delta.stats
+            FROM old_rows o
+            JOIN new_rows n ON n.id = o.id
+            CROSS JOIN LATERAL (VALUES
+                ((o.owner_id, o.request_status, o.request_type, -1, -o.total_cost, -o.workload)::public.request_stats),
+                ((n.owner_id, n.request_status, n.request_type, 1, n.total_cost, n.workload)::public.request_stats)
+            ) AS delta(stats)
+            WHERE (o.owner_id, o.request_status, o.request_type, o.total_cost, o.workload)
+                IS DISTINCT FROM (n.owner_id, n.request_status, n.request_type, n.total_cost, n.workload)));
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER requests_insert_request_stats
+    AFTER INSERT ON public.requests
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION public.apply_request_stats();
+
+CREATE TRIGGER requests_update_request_stats
+    AFTER UPDATE ON public.requests
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION public.apply_request_stats();
+
+CREATE TRIGGER requests_delete_request_stats
+    AFTER DELETE ON public.requests
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION public.apply_request_stats();
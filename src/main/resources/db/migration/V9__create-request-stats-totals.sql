@@ -0,0 +1,55 @@
+CREATE TABLE public.request_stats_totals
+(
+    request_status text NOT NULL,
+    request_type text NOT NULL,
+    request_count bigint NOT NULL,
+    total_cost double precision NOT NULL,
+    total_workload bigint NOT NULL,
+    PRIMARY KEY (request_status, request_type)
+);
+
+ALTER TABLE IF EXISTS public.request_stats_totals
+    OWNER to postgres;
+
+INSERT INTO public.request_stats_totals(request_status, request_type, request_count, total_cost, total_workload)
+SELECT request_status, request_type, sum(request_count), sum(total_cost), sum(total_workload)
+FROM public.request_stats
+GROUP BY request_status, request_type;
+
+-- Owner rows are locked before the totals rows, both in key order, so concurrent statements still lock in the same order.
+-- Deltas that cancel out, such as an owner change, leave the shared totals rows untouched.
+CREATE OR REPLACE FUNCTION public.apply_request_stats_delta(deltas public.request_stats[]) RETURNS void AS $$
+    INSERT INTO public.request_stats AS stats(owner_id, request_status, request_type, request_count, total_cost, total_workload)
+    SELECT owner_id, request_status, request_type, sum(request_count), sum(total_cost), sum(total_workload)
+    FROM unnest(deltas)
+    GROUP BY owner_id, request_status, request_type
+    ORDER BY owner_id, request_status, request_type
+    ON CONFLICT (owner_id, request_status, request_type) DO UPDATE
+    SET request_count = stats.request_count + EXCLUDED.request_count,
+        total_cost = stats.total_cost + EXCLUDED.total_cost,
+        total_workload = stats.total_workload + EXCLUDED.total_workload;
+
+    DELETE FROM public.request_stats stats
+    USING unnest(deltas) delta
+    WHERE stats.owner_id = delta.owner_id
+        AND stats.request_status = delta.request_status
+        AND stats.request_type = delta.request_type
+        AND stats.request_count <= 0;
+
+    INSERT INTO public.request_stats_totals AS totals(request_status, request_type, request_count, total_cost, total_workload)
+    SELECT request_status, request_type, sum(request_count), sum(total_cost), sum(total_workload)
+    FROM unnest(deltas)
+    GROUP BY request_status, request_type
+    HAVING sum(request_count) <> 0 OR sum(total_cost) <> 0 OR sum(total_workload) <> 0
+    ORDER BY request_status, request_type
+    ON CONFLICT (request_status, request_type) DO UPDATE
+    SET request_count = totals.request_count + EXCLUDED.request_count,
+        total_cost = totals.total_cost + EXCLUDED.total_cost,
+        total_workload = totals.total_workload + EXCLUDED.total_workload;
+
+    DELETE FROM public.request_stats_totals totals
+    USING unnest(deltas) delta
+    WHERE totals.request_status = delta.request_status
+        AND totals.request_type = delta.request_type
+        AND totals.request_count <= 0;
+$$ LANGUAGE sql;
@@ -0,0 +1,173 @@
+package request.management.project.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.dto.RequestDto;
+import request.management.project.model.*;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.UserRepository;
+import request.management.project.service.RequestService;
+import request.management.project.service.UserService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "SECOND_LEVEL_CACHE_ENABLED=true")
+public class HibernateCacheEndpointTest {
+    @Autowired
+    private HibernateCacheEndpoint endpoint;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User owner;
+
+    private Request request;
+
+    @BeforeEach
+    void createEntities() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        owner = new User();
+        owner.setUsername("cache-owner");
+        owner.setCpf("529.982.247-25");
+        owner.setEmail("cache-owner@email.com");
+        owner.setRegistrationNumber("0000");
+        owner.setName("owner");
+        owner.setPassword("password");
+        owner.setBirthDate(LocalDate.now());
+        owner.setUserType(UserType.TEACHER);
+        owner = userRepository.save(owner);
+
+        request = new Request();
+        request.setArea("cache area");
+        request.setRequestType(RequestType.POSTGRADUATE);
+        request.setWorkload(10);
+        request.setTotalCost(100f);
+        request.setRequestStatus(RequestStatus.CREATED);
+        request.setRequestDate(LocalDateTime.now());
+        request.setOwner(owner);
+        request = requestRepository.save(request);
+
+        statistics.clear();
+    }
+
+    @AfterEach
+    void deleteEntities() {
+        requestRepository.deleteById(request.getId());
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void findShouldBeServedFromTheCache() {
+        requestService.find(request.getId());
+        requestService.find(request.getId());
+        userRepository.findById(owner.getId()).orElseThrow();
+
+        assertEquals(statistics.getPrepareStatementCount(), 0L);
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 3);
+    }
+
+    @Test
+    void findByUsernameShouldUseTheNaturalIdCache() {
+        userRepository.findByUsername(owner.getUsername()).orElseThrow();
+        userRepository.findByUsername(owner.getUsername()).orElseThrow();
+
+        assertEquals(statistics.getPrepareStatementCount(), 0L);
+        assertTrue(statistics.getNaturalIdCacheHitCount() >= 2);
+    }
+
+    @Test
+    void updateShouldRefreshTheCachedEntity() {
+        var dto = requestService.find(request.getId());
+        dto.setArea("updated cache area");
+        requestService.update(request.getId(), dto);
+
+        assertEquals(requestService.find(request.getId()).getArea(), "updated cache area");
+    }
+
+    @Test
+    void updateShouldMoveTheNaturalId() {
+        userRepository.findByUsername("cache-owner").orElseThrow();
+
+        owner.setUsername("cache-owner-renamed");
+        owner = userRepository.save(owner);
+
+        assertTrue(userRepository.findByUsername("cache-owner").isEmpty());
+        assertEquals(userRepository.findByUsername("cache-owner-renamed").orElseThrow().getId(), owner.getId());
+    }
+
+    @Test
+    void deleteUserShouldEvictTheirCachedRequests() {
+        requestService.find(request.getId());
+        userService.delete(owner.getId());
+
+        assertThrows(NoSuchElementException.class, () -> requestService.find(request.getId()));
+        assertTrue(userRepository.findById(owner.getId()).isEmpty());
+    }
+
+    @Test
+    void bulkTransitionShouldInvalidateTheCachedEntity() throws Exception {
+        requestService.find(request.getId());
+        requestService.approveRequest(request.getId());
+
+        assertEquals(requestService.find(request.getId()).getRequestStatus(), RequestStatus.APPROVED);
+    }
+
+    @Test
+    void deleteShouldEvictTheCachedEntity() {
+        var extraRequest = new RequestDto();
+        extraRequest.setArea("cache area");
+        extraRequest.setRequestType(RequestType.POSTGRADUATE);
+        extraRequest.setWorkload(10);
+        extraRequest.setTotalCost(100f);
+        extraRequest.setRequestStatus(RequestStatus.CREATED);
+        extraRequest.setRequestDate(LocalDateTime.now());
+        extraRequest.setOwnerId(owner.getId());
+
+        var created = requestService.create(extraRequest);
+        requestService.find(created.getId());
+        requestService.delete(created.getId());
+
+        assertTrue(requestRepository.findById(created.getId()).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statisticsShouldReportTheRegions() {
+        requestService.find(request.getId());
+
+        var response = endpoint.statistics();
+        var regions = (Map<String, Map<String, Object>>) response.get("regions");
+
+        assertEquals(response.get("enabled"), true);
+        assertEquals(response.get("statisticsEnabled"), true);
+        assertTrue(regions.containsKey("requests"));
+        assertTrue(regions.containsKey("users"));
+        assertTrue((Long) regions.get("requests").get("hits") >= 1);
+    }
+}
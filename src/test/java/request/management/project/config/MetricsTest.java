@@ -0,0 +1,41 @@
+package request.management.project.config;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.repository.RequestRepository;
+import request.management.project.service.UserService;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureObservability(tracing = false)
+public class MetricsTest {
+    @Autowired
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Test
+    void scrapeShouldExposeServiceAndRepositoryTimers() {
+        assertThrows(NoSuchElementException.class, () -> userService.find(-1L));
+        requestRepository.summarize();
+
+        var scrape = prometheusMeterRegistry.scrape();
+
+        assertTrue(scrape.contains("service_seconds_count{class=\"UserService\",exception=\"NoSuchElementException\",method=\"find\""));
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_count"));
+        assertTrue(scrape.contains("method=\"summarize\""));
+        assertTrue(scrape.contains("auth_token_parse_seconds"));
+        assertTrue(scrape.contains("password_hashing_seconds"));
+    }
+}
@@ -0,0 +1,22 @@
+package request.management.project.config;
+
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class QueryCountAssertions {
+    public static void assertQueryCount(QueryCountInspector inspector, long expected, Executable action) throws Throwable {
+        List<String> statements;
+        inspector.start();
+
+        try {
+            action.execute();
+        } finally {
+            statements = inspector.stop();
+        }
+
+        assertEquals((long) statements.size(), expected, "Unexpected number of SQL statements");
+    }
+}
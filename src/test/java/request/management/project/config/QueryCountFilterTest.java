@@ -0,0 +1,95 @@
+package request.management.project.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ExtendWith(OutputCaptureExtension.class)
+public class QueryCountFilterTest {
+    @Autowired
+    private QueryCountFilter queryCountFilter;
+
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    @AfterEach
+    void resetThreshold() {
+        ReflectionTestUtils.setField(queryCountFilter, "threshold", 10);
+    }
+
+    private MockHttpServletResponse filter(int statements) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/requests");
+        var response = new MockHttpServletResponse();
+
+        queryCountFilter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            for (int i = 0; i < statements; i++)
+                queryCountInspector.inspect("select * from users u1_0 where u1_0.id in (?,?,?)");
+
+            servletResponse.getWriter().write("body");
+            servletResponse.flushBuffer();
+            assertSame(servletResponse, response);
+            assertTrue(servletResponse.isCommitted());
+        });
+
+        return response;
+    }
+
+    @Test
+    void doFilterShouldLogRequestsAboveTheThreshold(CapturedOutput output) throws Exception {
+        ReflectionTestUtils.setField(queryCountFilter, "threshold", 2);
+
+        filter(3);
+
+        assertTrue(output.getOut().contains("GET /requests executed 3 queries (threshold 2): {select * from users u1_0 where u1_0.id in (?)=3}"));
+        assertTrue(queryCountInspector.stop().isEmpty());
+    }
+
+    @Test
+    void doFilterShouldNotLogRequestsWithinTheThreshold(CapturedOutput output) throws Exception {
+        filter(3);
+
+        assertFalse(output.getOut().contains("GET /requests executed"));
+    }
+
+    @Test
+    void doFilterShouldStreamTheResponseUntouched() throws Exception {
+        var response = filter(4);
+
+        assertEquals(response.getContentAsString(), "body");
+        assertTrue(response.getHeaderNames().isEmpty());
+    }
+
+    @Test
+    void doFilterShouldLeaveOuterCountsIntact() throws Exception {
+        queryCountInspector.start();
+        filter(4);
+        queryCountInspector.inspect("select * from requests");
+
+        assertEquals(queryCountInspector.stop().size(), 5);
+        assertTrue(queryCountInspector.stop().isEmpty());
+    }
+
+    @Test
+    void shapesShouldGroupStatementsIgnoringInListSizes() {
+        var shapes = QueryCountFilter.shapes(List.of(
+                "select * from requests where id in (?, ?)",
+                "select * from requests where id in (?)",
+                "select * from users where id=?"
+        ));
+
+        assertEquals(shapes, Map.of("select * from requests where id in (?)", 2L, "select * from users where id=?", 1L));
+    }
+}
@@ -0,0 +1,135 @@
+package request.management.project.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import request.management.project.model.*;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.UserRepository;
+import request.management.project.service.RequestService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static request.management.project.config.QueryCountAssertions.assertQueryCount;
+
+@SpringBootTest
+public class QueryCountInspectorTest {
+    private static final String[] CPFS = {"529.982.247-25", "111.444.777-35", "123.456.789-09"};
+
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestService requestService;
+
+    private final List<User> owners = new ArrayList<>();
+
+    private final List<Long> requestIds = new ArrayList<>();
+
+    @BeforeEach
+    void createRequests() {
+        for (int i = 0; i < CPFS.length; i++) {
+            var owner = new User();
+            owner.setUsername("query-count-" + i);
+            owner.setCpf(CPFS[i]);
+            owner.setEmail("query-count-" + i + "@email.com");
+            owner.setRegistrationNumber("0000");
+            owner.setName("owner");
+            owner.setPassword("password");
+            owner.setBirthDate(LocalDate.now());
+            owner.setUserType(UserType.TEACHER);
+            owners.add(userRepository.save(owner));
+
+            var request = new Request();
+            request.setArea("query count area");
+            request.setRequestType(RequestType.POSTGRADUATE);
+            request.setWorkload(10);
+            request.setTotalCost(100f);
+            request.setRequestStatus(RequestStatus.CREATED);
+            request.setRequestDate(LocalDateTime.now());
+            request.setOwner(owners.get(i));
+            requestIds.add(requestRepository.save(request).getId());
+        }
+    }
+
+    @AfterEach
+    void deleteRequests() {
+        requestRepository.deleteAllById(requestIds);
+        userRepository.deleteAll(owners);
+        requestIds.clear();
+        owners.clear();
+    }
+
+    @Test
+    void inspectorShouldCountEveryStatement() throws Throwable {
+        assertQueryCount(queryCountInspector, 1, () -> requestRepository.summarize());
+    }
+
+    @Test
+    void findAllByIdShouldNotLoadTheOwners() throws Throwable {
+        assertQueryCount(queryCountInspector, 1, () -> requestRepository.findAllById(requestIds));
+    }
+
+    @Test
+    void listingShouldReadOwnerIdsWithoutTouchingUsers() throws Throwable {
+        queryCountInspector.start();
+        var requests = requestService.listAllByStatus(List.of(RequestStatus.CREATED), Sort.Direction.DESC, "id", null, 50);
+        var statements = queryCountInspector.stop();
+
+        assertEquals(statements.size(), 1);
+        assertFalse(statements.get(0).contains("users"));
+        assertTrue(requests.getContent().stream().anyMatch(request -> owners.get(0).getId().equals(request.getOwnerId())));
+    }
+
+    @Test
+    void listsShouldProjectRowsWithoutHydratingEntities() throws Throwable {
+        queryCountInspector.start();
+        var requests = requestService.listAllByOwner(owners.get(1).getId(), Sort.Direction.ASC, "id");
+        var statements = queryCountInspector.stop();
+
+        assertEquals(statements.size(), 1);
+        assertFalse(statements.get(0).contains("users"));
+        assertEquals(requests.size(), 1);
+        assertEquals(requests.get(0).getId(), requestIds.get(1));
+        assertEquals(requests.get(0).getOwnerId(), owners.get(1).getId());
+        assertEquals(requests.get(0).getArea(), "query count area");
+        assertEquals(requests.get(0).getRequestStatus(), RequestStatus.CREATED);
+        assertEquals(requests, List.of(requestService.find(requestIds.get(1))));
+    }
+
+    @Test
+    void startAndStopShouldCaptureTheThreadStatements() {
+        queryCountInspector.start();
+        requestRepository.summarize();
+        var statements = queryCountInspector.stop();
+
+        assertEquals(statements.size(), 1);
+        assertTrue(statements.get(0).contains("request"));
+        assertTrue(queryCountInspector.stop().isEmpty());
+    }
+
+    @Test
+    void customizeShouldEnableSlowQueryLogging() {
+        var properties = new HashMap<String, Object>();
+
+        queryCountInspector.customize(properties);
+
+        assertEquals(properties.get(AvailableSettings.STATEMENT_INSPECTOR), queryCountInspector);
+        assertEquals(properties.get(AvailableSettings.LOG_SLOW_QUERY), 200L);
+    }
+}
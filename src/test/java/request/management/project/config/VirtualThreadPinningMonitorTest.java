@@ -0,0 +1,49 @@
+package request.management.project.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"spring.threads.virtual.enabled=true", "project.pinnedThreadThresholdMs=0"})
+public class VirtualThreadPinningMonitorTest {
+    @Autowired
+    private VirtualThreadPinningMonitor monitor;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    private final Object lock = new Object();
+
+    @Test
+    void testTasksRunOnVirtualThreads() throws ExecutionException, InterruptedException {
+        assertTrue(taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get());
+    }
+
+    @Test
+    void testRecordsPinnedThreads() throws InterruptedException {
+        long before = monitor.getPinnedEvents();
+
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        for (int attempt = 0; attempt < 50 && monitor.getPinnedEvents() == before; attempt++) {
+            Thread.sleep(100);
+        }
+
+        assertTrue(monitor.getPinnedEvents() > before);
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,12 +17,15 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import request.management.project.dto.UserDto;
 import request.management.project.dto.auth.LoginRequestDto;
 import request.management.project.dto.auth.RegisterRequestDto;
+import request.management.project.exceptions.PasswordHashingBusyException;
 import request.management.project.mapper.GenericMapper;
 import request.management.project.model.EnumMessage;
 import request.management.project.model.Gender;
+import request.management.project.model.LoginIdentifier;
 import request.management.project.model.User;
 import request.management.project.model.UserType;
 import request.management.project.security.jwt.JwtUtils;
+import request.management.project.service.PasswordHashingService;
 import request.management.project.service.UserService;
 
 import java.time.LocalDate;
@@ -31,7 +35,10 @@ import java.util.NoSuchElementException;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -41,6 +48,9 @@ public class AuthControllerTest {
     @MockBean
     private UserService userService;
 
+    @SpyBean
+    private PasswordHashingService passwordHashingService;
+
     @Autowired
     private GenericMapper<UserDto, User> userMapper;
 
@@ -77,8 +87,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(passwordEncoder.encode(password));
 
-        when(userService.findByCpf(cpfWithSymbols)).thenReturn(savedUser);
-        when(userService.getUserEntityFindByUsername(savedUser.getUsername())).thenReturn(userMapper.toEntity(savedUser));
+        when(userService.findByLogin(LoginIdentifier.classify(login.getAuth()))).thenReturn(userMapper.toEntity(savedUser));
 
         given().log().all()
                 .when()
@@ -92,6 +101,8 @@ public class AuthControllerTest {
                 .body("userType", equalTo(savedUser.getUserType().name()))
                 .body("email", equalTo(savedUser.getEmail()))
                 .body("username", equalTo(savedUser.getUsername()));
+
+        verify(userService, never()).getUserEntityFindByUsername(any());
     }
 
     @Test
@@ -118,7 +129,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(passwordEncoder.encode(password));
 
-        doThrow(new NoSuchElementException()).when(userService).findByCpf(cpfWithSymbols);
+        doThrow(new NoSuchElementException()).when(userService).findByLogin(LoginIdentifier.classify(login.getAuth()));
 
         given().log().all()
                 .when()
@@ -153,8 +164,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(passwordEncoder.encode(password));
 
-        when(userService.findByCpf(cpfWithSymbols)).thenReturn(savedUser);
-        when(userService.getUserEntityFindByUsername(savedUser.getUsername())).thenReturn(userMapper.toEntity(savedUser));
+        when(userService.findByLogin(LoginIdentifier.classify(login.getAuth()))).thenReturn(userMapper.toEntity(savedUser));
 
         given().log().all()
                 .when()
@@ -193,7 +203,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(passwordEncoder.encode(password));
 
-        doThrow(new InvalidStateException(List.of())).when(userService).findByCpf(cpfWithSymbols);
+        doThrow(new InvalidStateException(List.of())).when(userService).findByLogin(LoginIdentifier.classify(login.getAuth()));
 
         given().log().all()
                 .when()
@@ -228,8 +238,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(passwordEncoder.encode(password));
 
-        when(userService.findByEmail(email)).thenReturn(savedUser);
-        when(userService.getUserEntityFindByUsername(savedUser.getUsername())).thenReturn(userMapper.toEntity(savedUser));
+        when(userService.findByLogin(LoginIdentifier.classify(login.getAuth()))).thenReturn(userMapper.toEntity(savedUser));
 
         given().log().all()
                 .when()
@@ -269,7 +278,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(passwordEncoder.encode(password));
 
-        doThrow(new NoSuchElementException()).when(userService).findByEmail(email);
+        doThrow(new NoSuchElementException()).when(userService).findByLogin(LoginIdentifier.classify(login.getAuth()));
 
         given().log().all()
                 .when()
@@ -304,8 +313,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(passwordEncoder.encode(password));
 
-        when(userService.findByUsername(username)).thenReturn(savedUser);
-        when(userService.getUserEntityFindByUsername(savedUser.getUsername())).thenReturn(userMapper.toEntity(savedUser));
+        when(userService.findByLogin(LoginIdentifier.classify(login.getAuth()))).thenReturn(userMapper.toEntity(savedUser));
 
         given().log().all()
                 .when()
@@ -344,7 +352,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(passwordEncoder.encode(password));
 
-        doThrow(new NoSuchElementException()).when(userService).findByUsername(username);
+        doThrow(new NoSuchElementException()).when(userService).findByLogin(LoginIdentifier.classify(login.getAuth()));
 
         given().log().all()
                 .when()
@@ -379,7 +387,7 @@ public class AuthControllerTest {
         savedUser.setUsername(username);
         savedUser.setPassword(password);
 
-        when(userService.findByUsername(username)).thenReturn(savedUser);
+        when(userService.findByLogin(LoginIdentifier.classify(login.getAuth()))).thenReturn(userMapper.toEntity(savedUser));
 
         given().log().all()
                 .when()
@@ -391,6 +399,62 @@ public class AuthControllerTest {
                 .body("message", equalTo("User or password doesn't match!"));
     }
 
+    @Test
+    void loginShouldReturnServiceUnavailableWhenPasswordHashingIsBusy() throws PasswordHashingBusyException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        String username = "username";
+        String password = "Some password";
+
+        var login = new LoginRequestDto();
+        login.setAuth(username);
+        login.setPassword(password);
+
+        var savedUser = new UserDto();
+        savedUser.setUsername(username);
+        savedUser.setPassword(passwordEncoder.encode(password));
+
+        when(userService.findByLogin(LoginIdentifier.classify(login.getAuth()))).thenReturn(userMapper.toEntity(savedUser));
+        doThrow(new PasswordHashingBusyException()).when(passwordHashingService).matches(anyString(), anyString());
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .body(login)
+                .post("auth/login")
+                .then().log().all()
+                .statusCode(503)
+                .body("message", equalTo(new PasswordHashingBusyException().getMessage()));
+    }
+
+    @Test
+    void signUpShouldReturnServiceUnavailableWhenPasswordHashingIsBusy() throws PasswordHashingBusyException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        var register = new RegisterRequestDto();
+        register.setUsername("Some username");
+        register.setName("Some name");
+        register.setPassword("Some password");
+        register.setEmail("some@email.com");
+        register.setCpf("000.000.000-00");
+        register.setUserType(UserType.TEACHER);
+
+        doThrow(new PasswordHashingBusyException()).when(passwordHashingService).encode(anyString());
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .body(register)
+                .post("auth/sign-up")
+                .then().log().all()
+                .statusCode(503)
+                .body("message", equalTo(new PasswordHashingBusyException().getMessage()));
+
+        verify(userService, never()).create(any());
+    }
+
     @Test
     void signUpShouldReturnOkWhenCpfDontHaveWithSymbols() {
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
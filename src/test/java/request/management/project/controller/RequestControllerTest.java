@@ -3,40 +3,62 @@ package request.management.project.controller;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.NestedTestConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.TransactionSystemException;
+import request.management.project.config.QueryCountInspector;
+import request.management.project.dto.CursorPageDto;
+import request.management.project.dto.ImportErrorDto;
+import request.management.project.dto.ImportReportDto;
 import request.management.project.dto.RequestDto;
-import request.management.project.dto.UserDto;
+import request.management.project.dto.RequestStatsDto;
+import request.management.project.dto.RequestSummaryDto;
+import request.management.project.dto.TransitionResultDto;
 import request.management.project.exceptions.EmptyReasonException;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.exceptions.RequestAlreadyApprovedException;
 import request.management.project.exceptions.RequestAlreadyUnapprovedException;
-import request.management.project.mapper.GenericMapper;
 import request.management.project.model.*;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.UserRepository;
 import request.management.project.security.jwt.JwtUtils;
 import request.management.project.security.services.UserDetailsImpl;
 import request.management.project.security.services.UserDetailsServiceImpl;
+import request.management.project.service.ImportService;
 import request.management.project.service.RequestService;
-import request.management.project.service.UserService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static io.restassured.RestAssured.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static request.management.project.config.QueryCountAssertions.assertQueryCount;
 import static org.hamcrest.Matchers.equalTo;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
@@ -50,10 +72,7 @@ public class RequestControllerTest {
     private RequestService service;
 
     @MockBean
-    private UserService userService;
-
-    @Autowired
-    private GenericMapper<UserDto, User> userMapper;
+    private ImportService importService;
 
     @Autowired
     private JwtUtils jwtUtils;
@@ -90,7 +109,6 @@ public class RequestControllerTest {
         headers.put("Authorization", "Bearer " + token);
 
         when(userDetailsService.loadUserByUsername(loggedUser.getUsername())).thenReturn(getLoggedUserDetails());
-        when(userService.findByUsername(loggedUser.getUsername())).thenReturn(userMapper.toDto(getLoggedUser()));
 
         return headers;
     }
@@ -121,7 +139,6 @@ public class RequestControllerTest {
         headers.put("Authorization", "Bearer " + token);
 
         when(userDetailsService.loadUserByUsername(loggedUser.getUsername())).thenReturn(getLoggedUserDetailsTeacher());
-        when(userService.findByUsername(loggedUser.getUsername())).thenReturn(userMapper.toDto(getLoggedUserTeacher()));
 
         return headers;
     }
@@ -779,6 +796,56 @@ public class RequestControllerTest {
                 .body("message", equalTo(EnumMessage.PUT_MESSAGE.message()));
     }
 
+    @Test
+    void approveRequestsShouldReturnOkResponse() {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(service.approveRequests(List.of(1L, 2L))).thenReturn(List.of(
+                new TransitionResultDto(1L, TransitionOutcome.APPROVED),
+                new TransitionResultDto(2L, TransitionOutcome.NOT_FOUND)
+        ));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .body(List.of(1L, 2L))
+                .put("requests/approve")
+                .then().log().all()
+                .statusCode(200)
+                .body("data[0].id", equalTo(1))
+                .body("data[0].outcome", equalTo(TransitionOutcome.APPROVED.name()))
+                .body("data[1].id", equalTo(2))
+                .body("data[1].outcome", equalTo(TransitionOutcome.NOT_FOUND.name()))
+                .body("message", equalTo(EnumMessage.PUT_MESSAGE.message()));
+    }
+
+    @Test
+    void disapproveRequestsShouldReturnOkResponse() {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        var disapprovals = List.of(new RequestDisapproval(1L, "reason"), new RequestDisapproval(2L, ""));
+
+        when(service.disapproveRequests(disapprovals)).thenReturn(List.of(
+                new TransitionResultDto(1L, TransitionOutcome.UNAPPROVED),
+                new TransitionResultDto(2L, TransitionOutcome.EMPTY_REASON)
+        ));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .body(disapprovals)
+                .put("requests/disapprove")
+                .then().log().all()
+                .statusCode(200)
+                .body("data[0].outcome", equalTo(TransitionOutcome.UNAPPROVED.name()))
+                .body("data[1].outcome", equalTo(TransitionOutcome.EMPTY_REASON.name()))
+                .body("message", equalTo(EnumMessage.PUT_MESSAGE.message()));
+    }
+
     @Test
     void approveRequestShouldReturnEntityNotFoundResponse() throws RequestAlreadyApprovedException, RequestAlreadyUnapprovedException {
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
@@ -930,12 +997,107 @@ public class RequestControllerTest {
                 .body("message", equalTo(new EmptyReasonException().getMessage()));
     }
 
+    @Test
+    void summarizeShouldReturnOkResponse() {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(service.summarize()).thenReturn(List.of(
+                new RequestSummaryDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, "area", 2L, 250.5, 30L)
+        ));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .get("requests/summary")
+                .then().log().all()
+                .statusCode(200)
+                .body("data[0].requestStatus", equalTo(RequestStatus.CREATED.name()))
+                .body("data[0].requestType", equalTo(RequestType.POSTGRADUATE.name()))
+                .body("data[0].area", equalTo("area"))
+                .body("data[0].count", equalTo(2))
+                .body("data[0].totalCost", equalTo(250.5f))
+                .body("data[0].totalWorkload", equalTo(30))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+    }
+
+    @Test
+    void summarizeByUserShouldReturnOkResponse() {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(service.summarizeByOwner(getLoggedUserTeacher().getId())).thenReturn(List.of(
+                new RequestSummaryDto(RequestStatus.APPROVED, RequestType.MASTERS_DEGREE, "area", 1L, 100.0, 10L)
+        ));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMapTeacher())
+                .get("requests/my-requests/summary")
+                .then().log().all()
+                .statusCode(200)
+                .body("data[0].requestStatus", equalTo(RequestStatus.APPROVED.name()))
+                .body("data[0].count", equalTo(1))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+
+        verify(service, never()).summarize();
+    }
+
+    @Test
+    void listStatsShouldReturnOkResponse() {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(service.listStats()).thenReturn(List.of(
+                new RequestStatsDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, 2L, 250.5, 30L)
+        ));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .get("requests/stats")
+                .then().log().all()
+                .statusCode(200)
+                .body("data[0].requestStatus", equalTo(RequestStatus.CREATED.name()))
+                .body("data[0].requestType", equalTo(RequestType.POSTGRADUATE.name()))
+                .body("data[0].count", equalTo(2))
+                .body("data[0].totalCost", equalTo(250.5f))
+                .body("data[0].totalWorkload", equalTo(30))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+    }
+
+    @Test
+    void listStatsByUserShouldReturnOkResponse() {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(service.listStatsByOwner(getLoggedUserTeacher().getId())).thenReturn(List.of(
+                new RequestStatsDto(RequestStatus.APPROVED, RequestType.MASTERS_DEGREE, 1L, 100.0, 10L)
+        ));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMapTeacher())
+                .get("requests/my-requests/stats")
+                .then().log().all()
+                .statusCode(200)
+                .body("data[0].requestStatus", equalTo(RequestStatus.APPROVED.name()))
+                .body("data[0].count", equalTo(1))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+
+        verify(service, never()).listStats();
+    }
+
     @Test
     void listTasksByUserShouldReturnOkResponse() {
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
         RestAssured.port = port;
 
-        when(service.listAllByOwner(userMapper.toDto(getLoggedUserTeacher()), Sort.Direction.ASC, "requestDate")).thenReturn(List.of());
+        when(service.listAllByOwner(getLoggedUserTeacher().getId(), Sort.Direction.ASC, "requestDate")).thenReturn(List.of());
 
         given().log().all()
                 .when()
@@ -947,4 +1109,303 @@ public class RequestControllerTest {
                 .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
     }
 
+    @Test
+    void listWithCursorShouldReturnOkResponse() throws InvalidCursorException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        Long id = 1L;
+        String area = "area";
+        String nextCursor = "next-cursor";
+
+        var requestDto = new RequestDto();
+        requestDto.setId(id);
+        requestDto.setArea(area);
+
+        when(service.findAll(Sort.Direction.ASC, "requestDate", null, 1)).thenReturn(new CursorPageDto<>(List.of(requestDto), nextCursor, true));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .queryParam("size", 1)
+                .get("requests")
+                .then().log().all()
+                .statusCode(200)
+                .body("data.content[0].id", equalTo(id.intValue()))
+                .body("data.content[0].area", equalTo(area))
+                .body("data.nextCursor", equalTo(nextCursor))
+                .body("data.hasNext", equalTo(true))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+    }
+
+    @Test
+    void listWithCursorShouldReturnInvalidCursorResponse() throws InvalidCursorException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        doThrow(new InvalidCursorException()).when(service).findAll(Sort.Direction.ASC, "requestDate", "invalid", null);
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .queryParam("cursor", "invalid")
+                .get("requests")
+                .then().log().all()
+                .statusCode(400)
+                .body("message", equalTo("Invalid pagination cursor"));
+    }
+
+    @Test
+    void listByStatusWithCursorShouldReturnOkResponse() throws InvalidCursorException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(service.listAllByStatus(List.of(RequestStatus.CREATED), Sort.Direction.ASC, "requestDate", "cursor", 10))
+                .thenReturn(new CursorPageDto<>(List.of(), null, false));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .queryParam("cursor", "cursor")
+                .queryParam("size", 10)
+                .get("requests/filter")
+                .then().log().all()
+                .statusCode(200)
+                .body("data.hasNext", equalTo(false))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+    }
+
+    @Test
+    void listTasksByUserWithCursorShouldReturnOkResponse() throws InvalidCursorException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(service.listAllByOwner(getLoggedUserTeacher().getId(), Sort.Direction.ASC, "requestDate", null, 5))
+                .thenReturn(new CursorPageDto<>(List.of(), null, false));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMapTeacher())
+                .queryParam("size", 5)
+                .get("requests/my-requests")
+                .then().log().all()
+                .statusCode(200)
+                .body("data.hasNext", equalTo(false))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+    }
+
+    @Test
+    void exportShouldReturnOkResponse() throws IOException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(4);
+            outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).exportByStatus(eq(List.of(RequestStatus.CREATED, RequestStatus.APPROVED, RequestStatus.UNAPPROVED)), eq(Sort.Direction.ASC), eq("requestDate"), eq(ExportFormat.NDJSON), any());
+
+        given().log().all()
+                .when()
+                .headers(getHeaderMap())
+                .queryParam("format", "NDJSON")
+                .get("requests/export")
+                .then().log().all()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .header("Content-Disposition", "attachment; filename=\"requests.ndjson\"")
+                .body(equalTo("{\"id\":1}\n"));
+    }
+
+    @Test
+    void exportShouldReturnPropertyNotFoundResponse() {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .queryParam("property", "unknown")
+                .get("requests/export")
+                .then().log().all()
+                .statusCode(400)
+                .body("message", equalTo(EnumMessage.PROPERTY_NOT_FOUND_MESSAGE.message()));
+    }
+
+    @Test
+    void importRequestsShouldForceTheOwnerWhenUserIsATeacher() throws IOException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        var report = new ImportReportDto();
+        report.setTotal(2);
+        report.setImported(1);
+        report.getErrors().add(new ImportErrorDto(3, "area must not be blank"));
+
+        when(importService.importRequests(any(InputStream.class), eq(ImportFormat.CSV), eq(1L), eq(true))).thenReturn(report);
+
+        given().log().all()
+                .when()
+                .contentType("text/csv")
+                .headers(getHeaderMapTeacher())
+                .body("area,requestType\narea,POSTGRADUATE\n,POSTGRADUATE\n")
+                .post("requests/import")
+                .then().log().all()
+                .statusCode(200)
+                .body("data.total", equalTo(2))
+                .body("data.imported", equalTo(1))
+                .body("data.errors[0].line", equalTo(3))
+                .body("data.errors[0].message", equalTo("area must not be blank"))
+                .body("message", equalTo(EnumMessage.POST_MESSAGE.message()));
+    }
+
+    @Test
+    void importRequestsShouldKeepTheOwnerWhenUserIsAnAdmin() throws IOException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(importService.importRequests(any(InputStream.class), eq(ImportFormat.NDJSON), eq(1L), eq(false))).thenReturn(new ImportReportDto());
+
+        given().log().all()
+                .when()
+                .contentType("application/x-ndjson")
+                .headers(getHeaderMap())
+                .body("{\"area\":\"area\",\"ownerId\":2}\n".getBytes(StandardCharsets.UTF_8))
+                .post("requests/import?format=NDJSON")
+                .then().log().all()
+                .statusCode(200)
+                .body("data.total", equalTo(0))
+                .body("message", equalTo(EnumMessage.POST_MESSAGE.message()));
+    }
+
+    @Test
+    void importRequestsShouldReturnInvalidImportFileResponse() throws IOException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(importService.importRequests(any(InputStream.class), eq(ImportFormat.CSV), eq(1L), eq(false))).thenThrow(new IOException());
+
+        given().log().all()
+                .when()
+                .contentType("text/csv")
+                .headers(getHeaderMap())
+                .body("\"unterminated")
+                .post("requests/import")
+                .then().log().all()
+                .statusCode(400)
+                .body("message", equalTo(EnumMessage.INVALID_IMPORT_FILE_MESSAGE.message()));
+    }
+
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    class WithRealServices {
+        private static final String[] CPFS = {"529.982.247-25", "111.444.777-35", "123.456.789-09"};
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private RequestRepository requestRepository;
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Autowired
+        private JwtUtils jwtUtils;
+
+        @Autowired
+        private QueryCountInspector queryCountInspector;
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        private final List<User> users = new ArrayList<>();
+
+        private final List<Long> requestIds = new ArrayList<>();
+
+        private User saveUser(String username, String cpf, UserType userType) {
+            var user = new User();
+            user.setUsername(username);
+            user.setCpf(cpf);
+            user.setEmail(username + "@email.com");
+            user.setRegistrationNumber("0000");
+            user.setName(username);
+            user.setPassword("password");
+            user.setBirthDate(LocalDate.now());
+            user.setUserType(userType);
+            users.add(userRepository.save(user));
+
+            return user;
+        }
+
+        private Map<String, Object> headers(User user) {
+            var userDetails = UserDetailsImpl.build(user);
+            var token = jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+            return Map.of("Authorization", "Bearer " + token);
+        }
+
+        @BeforeEach
+        void createRequests() {
+            cacheManager.getCache(UserDetailsServiceImpl.PRINCIPAL_CACHE).clear();
+            saveUser("query-count-technician", "935.411.347-80", UserType.TECHNICIAN);
+
+            for (int i = 0; i < CPFS.length; i++) {
+                var owner = saveUser("query-count-teacher-" + i, CPFS[i], UserType.TEACHER);
+
+                for (int j = 0; j < 2; j++) {
+                    var request = new Request();
+                    request.setArea("query count area");
+                    request.setRequestType(RequestType.POSTGRADUATE);
+                    request.setWorkload(10);
+                    request.setTotalCost(100f);
+                    request.setRequestStatus(RequestStatus.CREATED);
+                    request.setRequestDate(LocalDateTime.now());
+                    request.setOwner(owner);
+                    requestIds.add(requestRepository.save(request).getId());
+                }
+            }
+        }
+
+        @AfterEach
+        void deleteRequests() {
+            requestRepository.deleteAllById(requestIds);
+            userRepository.deleteAll(users);
+            requestIds.clear();
+            users.clear();
+        }
+
+        private void assertListQueryCount(User user, String path, long expected) throws Throwable {
+            var request = get("/" + path).header("Authorization", headers(user).get("Authorization"));
+
+            assertQueryCount(queryCountInspector, expected, () -> mockMvc.perform(request).andExpect(status().isOk()));
+        }
+
+        @Test
+        void listShouldNotQueryPerRequest() throws Throwable {
+            assertListQueryCount(users.get(0), "requests", 2);
+        }
+
+        @Test
+        void cursorListShouldNotQueryPerRequest() throws Throwable {
+            assertListQueryCount(users.get(0), "requests?size=50", 2);
+        }
+
+        @Test
+        void filterShouldNotQueryPerRequest() throws Throwable {
+            assertListQueryCount(users.get(0), "requests/filter?status=CREATED&size=50", 2);
+        }
+
+        @Test
+        void myRequestsShouldNotQueryPerRequest() throws Throwable {
+            assertListQueryCount(users.get(1), "requests/my-requests", 2);
+        }
+    }
 }
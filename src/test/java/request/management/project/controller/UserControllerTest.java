@@ -5,39 +5,66 @@ import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.NestedTestConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.TransactionSystemException;
+import request.management.project.config.QueryCountInspector;
+import request.management.project.dto.CursorPageDto;
+import request.management.project.dto.ImportErrorDto;
+import request.management.project.dto.ImportReportDto;
 import request.management.project.dto.RequestDto;
 import request.management.project.dto.UserDto;
-import request.management.project.mapper.GenericMapper;
+import request.management.project.dto.UserSummaryDto;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.model.EnumMessage;
 import request.management.project.model.Gender;
+import request.management.project.model.ImportFormat;
+import request.management.project.model.Request;
+import request.management.project.model.RequestStatus;
+import request.management.project.model.RequestType;
 import request.management.project.model.User;
 import request.management.project.model.UserType;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.UserRepository;
 import request.management.project.security.jwt.JwtUtils;
 import request.management.project.security.services.UserDetailsImpl;
 import request.management.project.security.services.UserDetailsServiceImpl;
+import request.management.project.service.ImportService;
 import request.management.project.service.UserService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static io.restassured.RestAssured.given;
-import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static request.management.project.config.QueryCountAssertions.assertQueryCount;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -46,10 +73,10 @@ public class UserControllerTest {
     private UserService service;
 
     @MockBean
-    private UserDetailsServiceImpl userDetailsService;
+    private ImportService importService;
 
-    @Autowired
-    private GenericMapper<UserDto, User> mapper;
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
 
     @Autowired
     private JwtUtils jwtUtils;
@@ -86,7 +113,6 @@ public class UserControllerTest {
         headers.put("Authorization", "Bearer " + token);
 
         when(userDetailsService.loadUserByUsername(loggedUser.getUsername())).thenReturn(getLoggedUserDetails());
-        when(service.findByUsername(loggedUser.getUsername())).thenReturn(mapper.toDto(getLoggedUser()));
 
         return headers;
     }
@@ -117,7 +143,6 @@ public class UserControllerTest {
         headers.put("Authorization", "Bearer " + token);
 
         when(userDetailsService.loadUserByUsername(loggedUser.getUsername())).thenReturn(getLoggedUserDetailsTeacher());
-        when(service.findByUsername(loggedUser.getUsername())).thenReturn(mapper.toDto(getLoggedUserTeacher()));
 
         return headers;
     }
@@ -201,26 +226,13 @@ public class UserControllerTest {
         String email = "email@email.com";
         String registrationNumber = "1234";
         String name = "name";
-        String password = "password";
         LocalDate birthDate = LocalDate.now();
         Gender gender = Gender.NON_SPECIFICATION;
         UserType userType = UserType.ADMIN;
-        List<RequestDto> requests = new ArrayList<>();
 
-        var userDto = new UserDto();
-        userDto.setId(id);
-        userDto.setUsername(username);
-        userDto.setCpf(cpf);
-        userDto.setEmail(email);
-        userDto.setRegistrationNumber(registrationNumber);
-        userDto.setName(name);
-        userDto.setPassword(password);
-        userDto.setBirthDate(birthDate);
-        userDto.setGender(gender);
-        userDto.setUserType(userType);
-        userDto.setRequests(requests);
+        var summary = new UserSummaryDto(id, username, cpf, email, registrationNumber, name, birthDate, gender, userType);
 
-        when(service.findAll(Sort.Direction.ASC, "id")).thenReturn(List.of(userDto));
+        when(service.listSummaries(Sort.Direction.ASC, "id")).thenReturn(List.of(summary));
 
         given().log().all()
                 .when()
@@ -237,8 +249,46 @@ public class UserControllerTest {
                 .body("data[0].name", equalTo(name))
                 .body("data[0].birthDate", equalTo(birthDate.toString()))
                 .body("data[0].userType", equalTo(userType.name()))
-                .body("data[0].requests", equalTo(List.of()))
+                .body("data[0]", not(hasKey("requests")))
                 .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+
+        verify(service, never()).findAll(any(), any());
+    }
+
+    @Test
+    void listWithRequestsShouldReturnOkResponse() {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        Long id = 1L;
+        String username = "username";
+
+        var requestDto = new RequestDto();
+        requestDto.setId(2L);
+        requestDto.setOwnerId(id);
+
+        var userDto = new UserDto();
+        userDto.setId(id);
+        userDto.setUsername(username);
+        userDto.setRequests(List.of(requestDto));
+
+        when(service.findAll(Sort.Direction.ASC, "id")).thenReturn(List.of(userDto));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .queryParam("include", "requests")
+                .get("users")
+                .then().log().all()
+                .statusCode(200)
+                .body("data[0].id", equalTo(id.intValue()))
+                .body("data[0].username", equalTo(username))
+                .body("data[0].requests[0].id", equalTo(2))
+                .body("data[0].requests[0].ownerId", equalTo(id.intValue()))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+
+        verify(service, never()).listSummaries(any(), any());
     }
 
     @Test
@@ -246,7 +296,7 @@ public class UserControllerTest {
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
         RestAssured.port = port;
 
-        doThrow(new PropertyReferenceException("id", TypeInformation.LIST, List.of())).when(service).findAll(Sort.Direction.ASC, "id");
+        doThrow(new PropertyReferenceException("id", TypeInformation.LIST, List.of())).when(service).listSummaries(Sort.Direction.ASC, "id");
 
         given().log().all()
                 .when()
@@ -258,6 +308,33 @@ public class UserControllerTest {
                 .body("message", equalTo(EnumMessage.PROPERTY_NOT_FOUND_MESSAGE.message()));
     }
 
+    @Test
+    void listWithCursorShouldReturnOkResponse() throws InvalidCursorException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        Long id = 1L;
+        String username = "username";
+
+        var summary = new UserSummaryDto(id, username, null, null, null, null, null, null, UserType.ADMIN);
+
+        when(service.listSummaries(Sort.Direction.ASC, "id", null, 1)).thenReturn(new CursorPageDto<>(List.of(summary), "next-cursor", true));
+
+        given().log().all()
+                .when()
+                .contentType(ContentType.JSON)
+                .headers(getHeaderMap())
+                .queryParam("size", 1)
+                .get("users")
+                .then().log().all()
+                .statusCode(200)
+                .body("data.content[0].id", equalTo(id.intValue()))
+                .body("data.content[0].username", equalTo(username))
+                .body("data.nextCursor", equalTo("next-cursor"))
+                .body("data.hasNext", equalTo(true))
+                .body("message", equalTo(EnumMessage.GET_MESSAGE.message()));
+    }
+
     @Test
     void createShouldReturnCreatedResponse() {
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
@@ -479,4 +556,152 @@ public class UserControllerTest {
                 .statusCode(404)
                 .body("message", equalTo(EnumMessage.ENTITY_NOT_FOUND_MESSAGE.message()));
     }
+
+    @Test
+    void importUsersShouldReturnOkResponse() throws IOException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        var report = new ImportReportDto();
+        report.setTotal(2);
+        report.setImported(1);
+        report.getErrors().add(new ImportErrorDto(3, EnumMessage.INVALID_CPF.message()));
+
+        when(importService.importUsers(any(InputStream.class), eq(ImportFormat.CSV))).thenReturn(report);
+
+        given().log().all()
+                .when()
+                .contentType("text/csv")
+                .headers(getHeaderMap())
+                .body("username,cpf\nfirst,123.456.789-09\nsecond,123.456.789-00\n")
+                .post("users/import")
+                .then().log().all()
+                .statusCode(200)
+                .body("data.total", equalTo(2))
+                .body("data.imported", equalTo(1))
+                .body("data.errors[0].line", equalTo(3))
+                .body("data.errors[0].message", equalTo(EnumMessage.INVALID_CPF.message()))
+                .body("message", equalTo(EnumMessage.POST_MESSAGE.message()));
+    }
+
+    @Test
+    void importUsersShouldReturnInvalidImportFileResponse() throws IOException {
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        RestAssured.port = port;
+
+        when(importService.importUsers(any(InputStream.class), eq(ImportFormat.NDJSON))).thenThrow(new IOException());
+
+        given().log().all()
+                .when()
+                .contentType("application/x-ndjson")
+                .headers(getHeaderMap())
+                .body("{".getBytes(StandardCharsets.UTF_8))
+                .post("users/import?format=NDJSON")
+                .then().log().all()
+                .statusCode(400)
+                .body("message", equalTo(EnumMessage.INVALID_IMPORT_FILE_MESSAGE.message()));
+    }
+
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    class WithRealServices {
+        private static final String[] CPFS = {"529.982.247-25", "111.444.777-35", "123.456.789-09"};
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private RequestRepository requestRepository;
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Autowired
+        private JwtUtils jwtUtils;
+
+        @Autowired
+        private QueryCountInspector queryCountInspector;
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        private final List<User> users = new ArrayList<>();
+
+        private final List<Long> requestIds = new ArrayList<>();
+
+        private User saveUser(String username, String cpf, UserType userType) {
+            var user = new User();
+            user.setUsername(username);
+            user.setCpf(cpf);
+            user.setEmail(username + "@email.com");
+            user.setRegistrationNumber("0000");
+            user.setName(username);
+            user.setPassword("password");
+            user.setBirthDate(LocalDate.now());
+            user.setUserType(userType);
+            users.add(userRepository.save(user));
+
+            return user;
+        }
+
+        @BeforeEach
+        void createUsers() {
+            cacheManager.getCache(UserDetailsServiceImpl.PRINCIPAL_CACHE).clear();
+            saveUser("query-count-admin", "935.411.347-80", UserType.ADMIN);
+
+            for (int i = 0; i < CPFS.length; i++) {
+                var owner = saveUser("query-count-teacher-" + i, CPFS[i], UserType.TEACHER);
+
+                for (int j = 0; j < 2; j++) {
+                    var request = new Request();
+                    request.setArea("query count area");
+                    request.setRequestType(RequestType.POSTGRADUATE);
+                    request.setWorkload(10);
+                    request.setTotalCost(100f);
+                    request.setRequestStatus(RequestStatus.CREATED);
+                    request.setRequestDate(LocalDateTime.now());
+                    request.setOwner(owner);
+                    requestIds.add(requestRepository.save(request).getId());
+                }
+            }
+        }
+
+        @AfterEach
+        void deleteUsers() {
+            requestRepository.deleteAllById(requestIds);
+            userRepository.deleteAll(users);
+            requestIds.clear();
+            users.clear();
+        }
+
+        private void assertListQueryCount(String path, long expected) throws Throwable {
+            var userDetails = UserDetailsImpl.build(users.get(0));
+            var token = jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+            var request = get("/" + path).header("Authorization", "Bearer " + token);
+
+            assertQueryCount(queryCountInspector, expected, () -> mockMvc.perform(request).andExpect(status().isOk()));
+        }
+
+        @Test
+        void listShouldNotQueryPerUser() throws Throwable {
+            assertListQueryCount("users", 2);
+        }
+
+        @Test
+        void cursorListShouldNotQueryPerUser() throws Throwable {
+            assertListQueryCount("users?size=50", 2);
+        }
+
+        @Test
+        void listWithRequestsShouldNotQueryPerUser() throws Throwable {
+            assertListQueryCount("users?include=requests", 2);
+        }
+
+        @Test
+        void cursorListWithRequestsShouldNotQueryPerUser() throws Throwable {
+            assertListQueryCount("users?include=requests&size=50", 3);
+        }
+    }
 }
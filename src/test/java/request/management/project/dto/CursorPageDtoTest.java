@@ -0,0 +1,32 @@
+package request.management.project.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class CursorPageDtoTest {
+    @Test
+    void allArgsConstructor() {
+        var requestDto = new RequestDto();
+        requestDto.setId(1L);
+
+        var page = new CursorPageDto<>(List.of(requestDto), "cursor", true);
+
+        assertEquals(page.getContent(), List.of(requestDto));
+        assertEquals(page.getNextCursor(), "cursor");
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    void noArgsConstructor() {
+        var page = new CursorPageDto<RequestDto>();
+
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+        assertFalse(page.isHasNext());
+    }
+}
@@ -0,0 +1,26 @@
+package request.management.project.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+public class ImportErrorDtoTest {
+    @Test
+    void allArgsConstructor() {
+        var error = new ImportErrorDto(2, "Invalid email!");
+
+        assertEquals(error.getLine(), 2L);
+        assertEquals(error.getMessage(), "Invalid email!");
+    }
+
+    @Test
+    void noArgsConstructor() {
+        var error = new ImportErrorDto();
+
+        assertEquals(error.getLine(), 0L);
+        assertNull(error.getMessage());
+    }
+}
@@ -0,0 +1,31 @@
+package request.management.project.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class ImportReportDtoTest {
+    @Test
+    void noArgsConstructor() {
+        var report = new ImportReportDto();
+
+        assertEquals(report.getTotal(), 0L);
+        assertEquals(report.getImported(), 0L);
+        assertTrue(report.getErrors().isEmpty());
+    }
+
+    @Test
+    void addErrors() {
+        var report = new ImportReportDto();
+        report.setTotal(2);
+        report.setImported(1);
+        report.getErrors().add(new ImportErrorDto(2, "Invalid email!"));
+
+        assertEquals(report.getTotal(), 2L);
+        assertEquals(report.getImported(), 1L);
+        assertEquals(report.getErrors().get(0).getLine(), 2L);
+    }
+}
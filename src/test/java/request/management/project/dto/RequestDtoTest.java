@@ -11,6 +11,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest
 public class RequestDtoTest {
+    @Test
+    void allArgsConstructor() {
+        LocalDateTime requestDate = LocalDateTime.now();
+
+        var request = new RequestDto(1L, "area", RequestType.MASTERS_DEGREE, 10, 100F, RequestStatus.UNAPPROVED, requestDate, 2L, "disapprove reason");
+
+        assertEquals(request.getId(), 1L);
+        assertEquals(request.getArea(), "area");
+        assertEquals(request.getRequestType(), RequestType.MASTERS_DEGREE);
+        assertEquals(request.getWorkload(), 10);
+        assertEquals(request.getTotalCost(), 100F);
+        assertEquals(request.getRequestStatus(), RequestStatus.UNAPPROVED);
+        assertEquals(request.getRequestDate(), requestDate);
+        assertEquals(request.getOwnerId(), 2L);
+        assertEquals(request.getDisapproveReason(), "disapprove reason");
+    }
+
     @Test
     void noArgsConstructor() {
         Long id = 1L;
@@ -0,0 +1,38 @@
+package request.management.project.dto;
+
+import org.junit.jupiter.api.Test;
+import request.management.project.model.RequestStatus;
+import request.management.project.model.RequestType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class RequestStatsDtoTest {
+    @Test
+    void testGettersAndSetters() {
+        var stats = new RequestStatsDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, 2L, 300.5, 30L);
+
+        assertEquals(stats.getRequestStatus(), RequestStatus.CREATED);
+        assertEquals(stats.getRequestType(), RequestType.POSTGRADUATE);
+        assertEquals(stats.getCount(), 2L);
+        assertEquals(stats.getTotalCost(), 300.5);
+        assertEquals(stats.getTotalWorkload(), 30L);
+
+        stats.setRequestStatus(RequestStatus.APPROVED);
+        stats.setCount(3L);
+
+        assertEquals(stats.getRequestStatus(), RequestStatus.APPROVED);
+        assertEquals(stats.getCount(), 3L);
+    }
+
+    @Test
+    void testEquals() {
+        var stats = new RequestStatsDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, 2L, 300.5, 30L);
+        var same = new RequestStatsDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, 2L, 300.5, 30L);
+        var other = new RequestStatsDto(RequestStatus.CREATED, RequestType.MASTERS_DEGREE, 2L, 300.5, 30L);
+
+        assertEquals(stats, same);
+        assertEquals(stats.hashCode(), same.hashCode());
+        assertNotEquals(stats, other);
+    }
+}
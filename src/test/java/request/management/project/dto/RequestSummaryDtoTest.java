@@ -0,0 +1,23 @@
+package request.management.project.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.model.RequestStatus;
+import request.management.project.model.RequestType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class RequestSummaryDtoTest {
+    @Test
+    void allArgsConstructor() {
+        var summary = new RequestSummaryDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, "area", 2L, 200.0, 20L);
+
+        assertEquals(summary.getRequestStatus(), RequestStatus.CREATED);
+        assertEquals(summary.getRequestType(), RequestType.POSTGRADUATE);
+        assertEquals(summary.getArea(), "area");
+        assertEquals(summary.getCount(), 2L);
+        assertEquals(summary.getTotalCost(), 200.0);
+        assertEquals(summary.getTotalWorkload(), 20L);
+    }
+}
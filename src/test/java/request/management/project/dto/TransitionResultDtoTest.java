@@ -0,0 +1,27 @@
+package request.management.project.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.model.TransitionOutcome;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+public class TransitionResultDtoTest {
+    @Test
+    void allArgsConstructor() {
+        var result = new TransitionResultDto(1L, TransitionOutcome.APPROVED);
+
+        assertEquals(result.getId(), 1L);
+        assertEquals(result.getOutcome(), TransitionOutcome.APPROVED);
+    }
+
+    @Test
+    void noArgsConstructor() {
+        var result = new TransitionResultDto();
+
+        assertNull(result.getId());
+        assertNull(result.getOutcome());
+    }
+}
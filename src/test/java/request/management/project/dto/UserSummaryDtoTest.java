@@ -0,0 +1,30 @@
+package request.management.project.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.model.Gender;
+import request.management.project.model.UserType;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class UserSummaryDtoTest {
+    @Test
+    void allArgsConstructor() {
+        var birthDate = LocalDate.now();
+
+        var summary = new UserSummaryDto(1L, "username", "000.000.000-00", "email@email.com", "1234", "name", birthDate, Gender.MALE, UserType.ADMIN);
+
+        assertEquals(summary.getId(), 1L);
+        assertEquals(summary.getUsername(), "username");
+        assertEquals(summary.getCpf(), "000.000.000-00");
+        assertEquals(summary.getEmail(), "email@email.com");
+        assertEquals(summary.getRegistrationNumber(), "1234");
+        assertEquals(summary.getName(), "name");
+        assertEquals(summary.getBirthDate(), birthDate);
+        assertEquals(summary.getGender(), Gender.MALE);
+        assertEquals(summary.getUserType(), UserType.ADMIN);
+    }
+}
@@ -0,0 +1,18 @@
+package request.management.project.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.exceptions.InvalidCursorException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class InvalidCursorExceptionTest {
+
+    @Test
+    void testConstructInvalidCursorException() {
+        var exception = new InvalidCursorException();
+
+        assertEquals(exception.getMessage(), "Invalid pagination cursor");
+    }
+}
@@ -0,0 +1,18 @@
+package request.management.project.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.exceptions.PasswordHashingBusyException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class PasswordHashingBusyExceptionTest {
+
+    @Test
+    void testConstructPasswordHashingBusyException() {
+        var exception = new PasswordHashingBusyException();
+
+        assertEquals(exception.getMessage(), "Too many authentication requests, please try again later.");
+    }
+}
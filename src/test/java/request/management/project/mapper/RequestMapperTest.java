@@ -4,11 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import request.management.project.dto.RequestDto;
-import request.management.project.dto.UserDto;
 import request.management.project.model.Request;
 import request.management.project.model.User;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @SpringBootTest
 public class RequestMapperTest {
@@ -45,4 +45,22 @@ public class RequestMapperTest {
         assertEquals(request.getId(), requestDto.getId());
         assertEquals(request.getArea(), requestDto.getArea());
     }
+
+    @Test
+    void testOwnerIdMapping() {
+        var owner = new User();
+        owner.setId(5L);
+
+        var request = new Request();
+        request.setOwner(owner);
+
+        assertEquals(mapper.toDto(request).getOwnerId(), 5L);
+        assertEquals(mapper.toEntity(mapper.toDto(request)).getOwner().getId(), 5L);
+    }
+
+    @Test
+    void toEntityShouldNotCreateOwnerWhenOwnerIdIsNull() {
+        assertNull(mapper.toEntity(new RequestDto()).getOwner());
+        assertNull(mapper.toDto(new Request()).getOwnerId());
+    }
 }
@@ -4,8 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import request.management.project.dto.UserDto;
+import request.management.project.model.Request;
 import request.management.project.model.User;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest
@@ -43,4 +46,22 @@ public class UserMapperTest {
         assertEquals(user.getId(), userDto.getId());
         assertEquals(user.getUsername(), userDto.getUsername());
     }
+
+    @Test
+    void testRequestsMapping() {
+        var user = new User();
+        user.setId(1L);
+
+        var request = new Request();
+        request.setId(2L);
+        request.setOwner(user);
+        user.setRequests(List.of(request));
+
+        var userDto = mapper.toDto(user);
+
+        assertEquals(userDto.getRequests().size(), 1);
+        assertEquals(userDto.getRequests().get(0).getId(), 2L);
+        assertEquals(userDto.getRequests().get(0).getOwnerId(), 1L);
+        assertEquals(mapper.toDto(new User()).getRequests(), List.of());
+    }
 }
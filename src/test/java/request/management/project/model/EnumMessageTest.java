@@ -22,7 +22,8 @@ public class EnumMessageTest {
                 EnumMessage.CONSTRAINT_VIOLATION_MESSAGE,
                 EnumMessage.PROPERTY_NOT_FOUND_MESSAGE,
                 EnumMessage.INVALID_CPF,
-                EnumMessage.DONT_HAVE_PERMISSION_MESSAGE);
+                EnumMessage.DONT_HAVE_PERMISSION_MESSAGE,
+                EnumMessage.INVALID_IMPORT_FILE_MESSAGE);
 
         assertTrue(Arrays.stream(EnumMessage.values()).toList().containsAll(messages));
     }
@@ -38,5 +39,6 @@ public class EnumMessageTest {
         assertEquals(EnumMessage.PROPERTY_NOT_FOUND_MESSAGE.message(), "Property not found in entity!");
         assertEquals(EnumMessage.INVALID_CPF.message(), "Invalid CPF");
         assertEquals(EnumMessage.DONT_HAVE_PERMISSION_MESSAGE.message(), "You don't have permission to do this!");
+        assertEquals(EnumMessage.INVALID_IMPORT_FILE_MESSAGE.message(), "Invalid import file!");
     }
 }
@@ -0,0 +1,31 @@
+package request.management.project.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class ExportFormatTest {
+    @Test
+    void testValues() {
+        List<ExportFormat> exportFormats = List.of(
+                ExportFormat.JSON,
+                ExportFormat.NDJSON,
+                ExportFormat.CSV
+        );
+
+        assertTrue(Arrays.stream(ExportFormat.values()).toList().containsAll(exportFormats));
+    }
+
+    @Test
+    void testContentTypes() {
+        assertEquals(ExportFormat.JSON.contentType(), "application/json");
+        assertEquals(ExportFormat.NDJSON.contentType(), "application/x-ndjson");
+        assertEquals(ExportFormat.CSV.contentType(), "text/csv");
+    }
+}
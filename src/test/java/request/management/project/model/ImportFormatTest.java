@@ -0,0 +1,22 @@
+package request.management.project.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class ImportFormatTest {
+    @Test
+    void testValues() {
+        List<ImportFormat> importFormats = List.of(
+                ImportFormat.NDJSON,
+                ImportFormat.CSV
+        );
+
+        assertTrue(Arrays.stream(ImportFormat.values()).toList().containsAll(importFormats));
+    }
+}
@@ -0,0 +1,53 @@
+package request.management.project.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class LoginIdentifierTest {
+    @Test
+    void testClassifyCpfWithoutSymbols() {
+        var identifier = LoginIdentifier.classify("12345678909");
+
+        assertEquals(identifier.getType(), LoginIdentifierType.CPF);
+        assertEquals(identifier.getValue(), "123.456.789-09");
+    }
+
+    @Test
+    void testClassifyCpfWithSymbols() {
+        var identifier = LoginIdentifier.classify("123.456.789-09");
+
+        assertEquals(identifier.getType(), LoginIdentifierType.CPF);
+        assertEquals(identifier.getValue(), "123.456.789-09");
+    }
+
+    @Test
+    void testClassifyEmail() {
+        var identifier = LoginIdentifier.classify("some@email.com");
+
+        assertEquals(identifier.getType(), LoginIdentifierType.EMAIL);
+        assertEquals(identifier.getValue(), "some@email.com");
+    }
+
+    @Test
+    void testClassifyUsername() {
+        assertEquals(LoginIdentifier.classify("username").getType(), LoginIdentifierType.USERNAME);
+        assertEquals(LoginIdentifier.classify("1234567890").getType(), LoginIdentifierType.USERNAME);
+        assertEquals(LoginIdentifier.classify("123.456.789/09").getType(), LoginIdentifierType.USERNAME);
+        assertEquals(LoginIdentifier.classify("some@email").getType(), LoginIdentifierType.USERNAME);
+    }
+
+    @Test
+    void testEquals() {
+        assertEquals(LoginIdentifier.classify("12345678909"), LoginIdentifier.classify("123.456.789-09"));
+    }
+
+    @Test
+    void testFormatCpf() {
+        assertEquals(LoginIdentifier.formatCpf("12345678909"), "123.456.789-09");
+        assertTrue(LoginIdentifier.CPF_WITH_SYMBOLS_PATTERN.matcher(LoginIdentifier.formatCpf("00000000000")).matches());
+    }
+}
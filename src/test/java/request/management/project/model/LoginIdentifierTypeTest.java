@@ -0,0 +1,23 @@
+package request.management.project.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class LoginIdentifierTypeTest {
+    @Test
+    void testValues() {
+        List<LoginIdentifierType> types = List.of(
+                LoginIdentifierType.CPF,
+                LoginIdentifierType.EMAIL,
+                LoginIdentifierType.USERNAME
+        );
+
+        assertTrue(Arrays.stream(LoginIdentifierType.values()).toList().containsAll(types));
+    }
+}
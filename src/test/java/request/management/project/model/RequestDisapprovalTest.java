@@ -0,0 +1,21 @@
+package request.management.project.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class RequestDisapprovalTest {
+    @Test
+    void testAllArgsConstructor() {
+        var disapproval = new RequestDisapproval(1L, "reason");
+
+        assertEquals(disapproval.getId(), 1L);
+        assertEquals(disapproval.getReason(), "reason");
+
+        disapproval.setReason("new reason");
+
+        assertEquals(disapproval.toString(), "RequestDisapproval(id=1, reason=new reason)");
+    }
+}
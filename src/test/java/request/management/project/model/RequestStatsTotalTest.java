@@ -0,0 +1,36 @@
+package request.management.project.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class RequestStatsTotalTest {
+    @Test
+    void testGettersAndSetters() {
+        var id = new RequestStatsTotalId(RequestStatus.CREATED, RequestType.POSTGRADUATE);
+        var stats = new RequestStatsTotal();
+
+        stats.setId(id);
+        stats.setRequestCount(2L);
+        stats.setTotalCost(300.5);
+        stats.setTotalWorkload(30L);
+
+        assertEquals(stats.getId().getRequestStatus(), RequestStatus.CREATED);
+        assertEquals(stats.getId().getRequestType(), RequestType.POSTGRADUATE);
+        assertEquals(stats.getRequestCount(), 2L);
+        assertEquals(stats.getTotalCost(), 300.5);
+        assertEquals(stats.getTotalWorkload(), 30L);
+    }
+
+    @Test
+    void testEquals() {
+        var stats = new RequestStatsTotal(new RequestStatsTotalId(RequestStatus.CREATED, RequestType.POSTGRADUATE), 2L, 300.5, 30L);
+        var same = new RequestStatsTotal(new RequestStatsTotalId(RequestStatus.CREATED, RequestType.POSTGRADUATE), 2L, 300.5, 30L);
+        var other = new RequestStatsTotal(new RequestStatsTotalId(RequestStatus.APPROVED, RequestType.POSTGRADUATE), 2L, 300.5, 30L);
+
+        assertEquals(stats, same);
+        assertEquals(stats.getId().hashCode(), same.getId().hashCode());
+        assertNotEquals(stats, other);
+    }
+}
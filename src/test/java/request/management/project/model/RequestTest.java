@@ -6,11 +6,13 @@ import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class RequestTest {
     @Test
     void testAllArgsConstructor() {
         var owner = new User();
+        owner.setId(2L);
 
         String area = "area";
         RequestType requestType = RequestType.MASTERS_DEGREE;
@@ -37,6 +39,7 @@ public class RequestTest {
         assertEquals(request.getRequestStatus(), requestStatus);
         assertEquals(request.getRequestDate(), requestDate);
         assertEquals(request.getOwner(), owner);
+        assertEquals(request.getOwnerId(), owner.getId());
         assertEquals(request.getDisapproveReason(), disapproveReason);
     }
 
@@ -48,9 +51,25 @@ public class RequestTest {
         assertEquals(request1, request2);
     }
 
+    @Test
+    void testSetOwner() {
+        var owner = new User();
+        owner.setId(2L);
+
+        var request = new Request();
+        request.setOwner(owner);
+
+        assertEquals(request.getOwner(), owner);
+        assertEquals(request.getOwnerId(), 2L);
+
+        request.setOwner(null);
+
+        assertNull(request.getOwnerId());
+    }
+
     @Test
     void testToString() {
-        String toString = "Request(area=null, requestType=null, workload=null, totalCost=null, requestStatus=null, requestDate=null, owner=null, disapproveReason=null)";
+        String toString = "Request(area=null, requestType=null, workload=null, totalCost=null, requestStatus=null, requestDate=null, ownerId=null, disapproveReason=null)";
         var request = new Request();
 
         assertEquals(request.toString(), toString);
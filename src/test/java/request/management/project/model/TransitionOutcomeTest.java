@@ -0,0 +1,26 @@
+package request.management.project.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class TransitionOutcomeTest {
+    @Test
+    void testValues() {
+        List<TransitionOutcome> outcomes = List.of(
+                TransitionOutcome.APPROVED,
+                TransitionOutcome.UNAPPROVED,
+                TransitionOutcome.ALREADY_APPROVED,
+                TransitionOutcome.ALREADY_UNAPPROVED,
+                TransitionOutcome.NOT_FOUND,
+                TransitionOutcome.EMPTY_REASON
+        );
+
+        assertTrue(Arrays.stream(TransitionOutcome.values()).toList().containsAll(outcomes));
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @SpringBootTest
 
@@ -17,6 +18,7 @@ public class UserTest {
     void testAllArgsConstructor() {
         String username = "username";
         String cpf = "000.000.000-00";
+        Long cpfDigits = 0L;
         String email = "email@email.com";
         String registrationNumber = "1234";
         String name = "name";
@@ -26,7 +28,7 @@ public class UserTest {
         UserType userType = UserType.ADMIN;
         List<Request> requests = new ArrayList<>();
 
-        var user = new User(username, cpf, email, registrationNumber, name, password, birthDate, gender, userType, requests);
+        var user = new User(username, cpf, cpfDigits, email, registrationNumber, name, password, birthDate, gender, userType, requests);
 
         Long id = 1L;
         String code = "code";
@@ -38,6 +40,7 @@ public class UserTest {
         assertEquals(user.getCode(), code);
         assertEquals(user.getUsername(), username);
         assertEquals(user.getCpf(), cpf);
+        assertEquals(user.getCpfDigits(), cpfDigits);
         assertEquals(user.getEmail(), email);
         assertEquals(user.getRegistrationNumber(), registrationNumber);
         assertEquals(user.getName(), name);
@@ -70,6 +73,33 @@ public class UserTest {
         assertNotNull(user.getCode());
     }
 
+    @Test
+    void testPrePersistShouldNormalizeCpf() {
+        var user = new User();
+        user.setCpf("123.456.789-09");
+        user.prePersist();
+
+        assertEquals(user.getCpfDigits(), 12345678909L);
+    }
+
+    @Test
+    void testPreUpdateShouldNormalizeCpf() {
+        var user = new User();
+        user.setCpf("000.000.001-91");
+        user.setCpfDigits(12345678909L);
+        user.preUpdate();
+
+        assertEquals(user.getCpfDigits(), 191L);
+    }
+
+    @Test
+    void testToCpfDigits() {
+        assertEquals(User.toCpfDigits("12345678909"), 12345678909L);
+        assertEquals(User.toCpfDigits("123.456.789-09"), 12345678909L);
+        assertNull(User.toCpfDigits("..-"));
+        assertNull(User.toCpfDigits(null));
+    }
+
     @Test
     void testPreUpdate() {
         var user = new User();
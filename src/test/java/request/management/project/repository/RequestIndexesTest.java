@@ -0,0 +1,81 @@
+package request.management.project.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class RequestIndexesTest {
+    private static EmbeddedPostgres postgres;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startDatabase() {
+        try {
+            postgres = EmbeddedPostgres.builder().start();
+        } catch (IOException | IllegalStateException exception) {
+            assumeTrue(false, "Embedded Postgres could not be started: " + exception.getMessage());
+        }
+
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        jdbcTemplate.update("""
+                INSERT INTO public.requests(code, area, request_type, workload, total_cost, owner_id, request_status, request_date)
+                SELECT md5(i::text), 'AREA', 'COURSE', 10, 100, u.id,
+                       CASE i % 10 WHEN 0 THEN 'CREATED' WHEN 1 THEN 'UNAPPROVED' ELSE 'APPROVED' END,
+                       now() - i * interval '1 minute'
+                FROM generate_series(1, 20000) i
+                CROSS JOIN LATERAL (SELECT id FROM public.users ORDER BY id OFFSET i % (SELECT count(*) FROM public.users) LIMIT 1) u
+                """);
+        jdbcTemplate.execute("ANALYZE public.requests");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        if (postgres != null)
+            postgres.close();
+    }
+
+    private String explain(String query, Object... args) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + query, String.class, args);
+
+        return String.join("\n", plan);
+    }
+
+    @Test
+    void findAllByOwnerIdShouldUseOwnerAndDateIndex() {
+        Long ownerId = jdbcTemplate.queryForObject("SELECT min(id) FROM public.users", Long.class);
+
+        var plan = explain("SELECT * FROM public.requests WHERE owner_id = ? ORDER BY request_date LIMIT 20", ownerId);
+
+        assertTrue(plan.contains("idx_requests_owner_id_request_date"), plan);
+    }
+
+    @Test
+    void findAllByRequestStatusInShouldUseStatusAndDateIndex() {
+        var plan = explain("SELECT * FROM public.requests WHERE request_status IN ('UNAPPROVED') ORDER BY request_date LIMIT 20");
+
+        assertTrue(plan.contains("idx_requests_request_status_request_date"), plan);
+    }
+
+    @Test
+    void findAllCreatedShouldUsePartialIndex() {
+        var plan = explain("SELECT * FROM public.requests WHERE request_status = 'CREATED' ORDER BY request_date LIMIT 20");
+
+        assertTrue(plan.contains("idx_requests_created_request_date"), plan);
+    }
+}
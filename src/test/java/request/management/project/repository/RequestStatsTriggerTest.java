@@ -0,0 +1,166 @@
+package request.management.project.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class RequestStatsTriggerTest {
+    private static final String STATS = """
+            SELECT owner_id, request_status::text AS request_status, request_type::text AS request_type, request_count, round(total_cost::numeric, 2) AS total_cost, total_workload::bigint AS total_workload
+            FROM public.request_stats
+            ORDER BY owner_id, request_status, request_type
+            """;
+
+    private static final String AGGREGATE = """
+            SELECT owner_id, request_status::text AS request_status, request_type::text AS request_type, count(*) AS request_count, round(sum(total_cost::double precision)::numeric, 2) AS total_cost, sum(workload)::bigint AS total_workload
+            FROM public.requests
+            GROUP BY owner_id, request_status, request_type
+            ORDER BY owner_id, request_status, request_type
+            """;
+
+    private static final String TOTALS = """
+            SELECT request_status::text AS request_status, request_type::text AS request_type, request_count, round(total_cost::numeric, 2) AS total_cost, total_workload::bigint AS total_workload
+            FROM public.request_stats_totals
+            ORDER BY request_status, request_type
+            """;
+
+    private static final String AGGREGATE_TOTALS = """
+            SELECT request_status::text AS request_status, request_type::text AS request_type, count(*) AS request_count, round(sum(total_cost::double precision)::numeric, 2) AS total_cost, sum(workload)::bigint AS total_workload
+            FROM public.requests
+            GROUP BY request_status, request_type
+            ORDER BY request_status, request_type
+            """;
+
+    private static EmbeddedPostgres postgres;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static Long ownerId;
+
+    @BeforeAll
+    static void startDatabase() {
+        try {
+            postgres = EmbeddedPostgres.builder().start();
+        } catch (IOException | IllegalStateException exception) {
+            assumeTrue(false, "Embedded Postgres could not be started: " + exception.getMessage());
+        }
+
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .target("7")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        ownerId = jdbcTemplate.queryForObject("SELECT min(id) FROM public.users", Long.class);
+
+        insertRequests(0, 100);
+
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        if (postgres != null)
+            postgres.close();
+    }
+
+    private static void insertRequests(int from, int to) {
+        jdbcTemplate.update("""
+                INSERT INTO public.requests(id, code, area, request_type, workload, total_cost, owner_id, request_status, request_date)
+                SELECT nextval('request_id_seq'), md5(i::text), 'AREA', CASE i % 2 WHEN 0 THEN 'POSTGRADUATE' ELSE 'MASTERS_DEGREE' END,
+                       i % 7, i * 1.5, u.id, CASE i % 3 WHEN 0 THEN 'CREATED' WHEN 1 THEN 'APPROVED' ELSE 'UNAPPROVED' END, now()
+                FROM generate_series(?, ?) i
+                CROSS JOIN LATERAL (SELECT id FROM public.users ORDER BY id OFFSET i % (SELECT count(*) FROM public.users) LIMIT 1) u
+                """, from, to - 1);
+    }
+
+    private Void approve(List<Long> ids, CyclicBarrier barrier) throws Exception {
+        try (var connection = postgres.getPostgresDatabase().getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (var statement = connection.prepareStatement("UPDATE public.requests SET request_status = 'APPROVED' WHERE id = ANY(?)")) {
+                statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+                barrier.await(10, TimeUnit.SECONDS);
+                statement.executeUpdate();
+                connection.commit();
+            } catch (SQLException exception) {
+                connection.rollback();
+                throw exception;
+            }
+        }
+
+        return null;
+    }
+
+    private void assertStatsMatchRequests() {
+        List<Map<String, Object>> stats = jdbcTemplate.queryForList(STATS);
+        List<Map<String, Object>> aggregate = jdbcTemplate.queryForList(AGGREGATE);
+
+        assertEquals(stats, aggregate);
+        assertEquals(jdbcTemplate.queryForList(TOTALS), jdbcTemplate.queryForList(AGGREGATE_TOTALS));
+    }
+
+    @Test
+    void migrationShouldBackfillTheStats() {
+        assertEquals(jdbcTemplate.queryForObject("SELECT sum(request_count) FROM public.request_stats", Long.class),
+                jdbcTemplate.queryForObject("SELECT count(*) FROM public.requests", Long.class));
+        assertStatsMatchRequests();
+    }
+
+    @Test
+    void triggersShouldKeepTheStatsInSync() {
+        insertRequests(100, 300);
+        assertStatsMatchRequests();
+
+        jdbcTemplate.update("UPDATE public.requests SET request_status = 'APPROVED' WHERE request_status = 'CREATED' AND owner_id = ?", ownerId);
+        assertStatsMatchRequests();
+
+        jdbcTemplate.update("UPDATE public.requests SET total_cost = total_cost + 10, workload = workload + 1 WHERE request_type = 'POSTGRADUATE'");
+        assertStatsMatchRequests();
+
+        jdbcTemplate.update("UPDATE public.requests SET area = 'OTHER AREA'");
+        assertStatsMatchRequests();
+
+        jdbcTemplate.update("DELETE FROM public.requests WHERE request_status = 'UNAPPROVED'");
+        assertStatsMatchRequests();
+        assertEquals(jdbcTemplate.queryForObject("SELECT count(*) FROM public.request_stats WHERE request_status = 'UNAPPROVED'", Long.class), 0L);
+        assertEquals(jdbcTemplate.queryForObject("SELECT count(*) FROM public.request_stats_totals WHERE request_status = 'UNAPPROVED'", Long.class), 0L);
+    }
+
+    @Test
+    void concurrentBulkApprovesShouldKeepTheStatsInSync() throws Exception {
+        insertRequests(300, 1300);
+
+        var ids = jdbcTemplate.queryForList("SELECT id FROM public.requests WHERE request_status = 'CREATED' ORDER BY id", Long.class);
+        var barrier = new CyclicBarrier(2);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var even = executor.submit(() -> approve(ids.stream().filter(id -> id % 2 == 0).toList(), barrier));
+            var odd = executor.submit(() -> approve(ids.stream().filter(id -> id % 2 == 1).toList().reversed(), barrier));
+
+            even.get(30, TimeUnit.SECONDS);
+            odd.get(30, TimeUnit.SECONDS);
+        }
+
+        assertEquals(jdbcTemplate.queryForObject("SELECT count(*) FROM public.requests WHERE request_status = 'CREATED'", Long.class), 0L);
+        assertStatsMatchRequests();
+    }
+}
@@ -0,0 +1,106 @@
+package request.management.project.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import request.management.project.dto.RequestDto;
+import request.management.project.dto.RequestSummaryDto;
+import request.management.project.model.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class RequestSummaryQueryTest {
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> owners = new ArrayList<>();
+
+    private User saveOwner(String username, String cpf) {
+        var owner = new User();
+        owner.setUsername(username);
+        owner.setCpf(cpf);
+        owner.setEmail(username + "@email.com");
+        owner.setRegistrationNumber("0000");
+        owner.setName("owner");
+        owner.setPassword("password");
+        owner.setBirthDate(LocalDate.now());
+        owner.setUserType(UserType.TEACHER);
+
+        owner = userRepository.save(owner);
+        owners.add(owner);
+
+        return owner;
+    }
+
+    private void saveRequest(User owner, RequestStatus status, RequestType type, String area, int workload, float totalCost) {
+        var request = new Request();
+        request.setArea(area);
+        request.setRequestType(type);
+        request.setWorkload(workload);
+        request.setTotalCost(totalCost);
+        request.setRequestStatus(status);
+        request.setRequestDate(LocalDateTime.now());
+        request.setOwner(owner);
+
+        requestRepository.save(request);
+    }
+
+    @BeforeEach
+    void createRequests() {
+        var first = saveOwner("summary-first", "529.982.247-25");
+        var second = saveOwner("summary-second", "111.444.777-35");
+
+        saveRequest(first, RequestStatus.CREATED, RequestType.POSTGRADUATE, "summary area", 10, 100.5f);
+        saveRequest(first, RequestStatus.CREATED, RequestType.POSTGRADUATE, "summary area", 20, 200f);
+        saveRequest(first, RequestStatus.APPROVED, RequestType.POSTGRADUATE, "summary area", 5, 50f);
+        saveRequest(second, RequestStatus.CREATED, RequestType.POSTGRADUATE, "summary area", 40, 400f);
+        saveRequest(second, RequestStatus.CREATED, RequestType.MASTERS_DEGREE, "other summary area", 1, 1f);
+    }
+
+    @AfterEach
+    void deleteRequests() {
+        for (var owner : owners) {
+            requestRepository.deleteAllById(requestRepository.findAllByOwnerId(owner.getId(), Sort.by("id"), RequestDto.class).stream().map(RequestDto::getId).toList());
+            userRepository.delete(owner);
+        }
+
+        owners.clear();
+    }
+
+    @Test
+    void summarizeShouldGroupAllRequests() {
+        var summaries = requestRepository.summarize().stream()
+                .filter(summary -> summary.getArea().endsWith("summary area"))
+                .toList();
+
+        assertEquals(summaries, List.of(
+                new RequestSummaryDto(RequestStatus.APPROVED, RequestType.POSTGRADUATE, "summary area", 1L, 50.0, 5L),
+                new RequestSummaryDto(RequestStatus.CREATED, RequestType.MASTERS_DEGREE, "other summary area", 1L, 1.0, 1L),
+                new RequestSummaryDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, "summary area", 3L, 700.5, 70L)
+        ));
+    }
+
+    @Test
+    void summarizeByOwnerIdShouldOnlyGroupTheOwnerRequests() {
+        var summaries = requestRepository.summarizeByOwnerId(owners.get(0).getId());
+
+        assertEquals(summaries, List.of(
+                new RequestSummaryDto(RequestStatus.APPROVED, RequestType.POSTGRADUATE, "summary area", 1L, 50.0, 5L),
+                new RequestSummaryDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, "summary area", 2L, 300.5, 30L)
+        ));
+        assertTrue(requestRepository.summarizeByOwnerId(-1L).isEmpty());
+    }
+}
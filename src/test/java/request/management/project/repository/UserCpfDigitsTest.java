@@ -0,0 +1,81 @@
+package request.management.project.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class UserCpfDigitsTest {
+    private static EmbeddedPostgres postgres;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startDatabase() {
+        try {
+            postgres = EmbeddedPostgres.builder().start();
+        } catch (IOException | IllegalStateException exception) {
+            assumeTrue(false, "Embedded Postgres could not be started: " + exception.getMessage());
+        }
+
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .target("6")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        jdbcTemplate.update("""
+                INSERT INTO public.users(id, code, cpf, email, registration_number, name, password, birth_date, user_type, username)
+                SELECT nextval('user_id_seq'), md5(i::text), lpad(i::text, 11, '0'), i || '@email.com', i::text, 'name', 'password', '2000-01-01', 'TEACHER', 'user' || i
+                FROM generate_series(1000, 20000) i
+                """);
+
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .load()
+                .migrate();
+
+        jdbcTemplate.execute("ANALYZE public.users");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        if (postgres != null)
+            postgres.close();
+    }
+
+    @Test
+    void migrationShouldBackfillCpfDigits() {
+        assertEquals(jdbcTemplate.queryForObject("SELECT cpf_digits FROM public.users WHERE cpf = '111.111.111-11'", Long.class), 11111111111L);
+        assertEquals(jdbcTemplate.queryForObject("SELECT cpf_digits FROM public.users WHERE cpf = '00000012345'", Long.class), 12345L);
+        assertEquals(jdbcTemplate.queryForObject("SELECT count(*) FROM public.users WHERE cpf_digits IS NULL", Long.class), 0L);
+    }
+
+    @Test
+    void cpfDigitsShouldBeUnique() {
+        var exception = assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update("""
+                INSERT INTO public.users(id, code, cpf, cpf_digits, email, registration_number, name, password, birth_date, user_type, username)
+                VALUES (nextval('user_id_seq'), 'code', '11111111111', 11111111111, 'duplicated@email.com', '0', 'name', 'password', '2000-01-01', 'TEACHER', 'duplicated')
+                """));
+
+        assertTrue(exception.getMessage().contains("unique_cpf"), exception.getMessage());
+    }
+
+    @Test
+    void findByCpfDigitsShouldUseTheUniqueIndex() {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN SELECT * FROM public.users WHERE cpf_digits = ?", String.class, 12345L);
+
+        assertTrue(String.join("\n", plan).contains("unique_cpf"), String.join("\n", plan));
+    }
+}
@@ -0,0 +1,56 @@
+package request.management.project.response;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.dto.RequestDto;
+import request.management.project.model.ImportFormat;
+import request.management.project.model.RequestType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+public class ImportRecordReaderTest {
+    @Autowired
+    private ImportRecordReader reader;
+
+    private ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testReadCsv() throws IOException {
+        var csv = """
+                area, requestType ,workload,totalCost,unknown
+                area 1,MASTERS_DEGREE,10,100,ignored
+                area 2,POSTGRADUATE,,200,
+                """;
+
+        var requests = reader.open(input(csv), ImportFormat.CSV, RequestDto.class).readAll();
+
+        assertEquals(requests.size(), 2);
+        assertEquals(requests.get(0).getArea(), "area 1");
+        assertEquals(requests.get(0).getRequestType(), RequestType.MASTERS_DEGREE);
+        assertEquals(requests.get(0).getWorkload(), 10);
+        assertNull(requests.get(1).getWorkload());
+    }
+
+    @Test
+    void testReadNdjson() throws IOException {
+        var ndjson = """
+                {"area":"area 1","requestType":"MASTERS_DEGREE","unknown":true}
+                {"area":"area 2","requestType":"POSTGRADUATE"}
+                """;
+
+        var requests = reader.open(input(ndjson), ImportFormat.NDJSON, RequestDto.class).readAll();
+
+        assertEquals(requests.size(), 2);
+        assertEquals(requests.get(1).getArea(), "area 2");
+        assertEquals(requests.get(1).getRequestType(), RequestType.POSTGRADUATE);
+    }
+}
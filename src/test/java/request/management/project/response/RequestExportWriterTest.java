@@ -0,0 +1,82 @@
+package request.management.project.response;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.dto.RequestDto;
+import request.management.project.model.ExportFormat;
+import request.management.project.model.RequestStatus;
+import request.management.project.model.RequestType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class RequestExportWriterTest {
+    @Autowired
+    private RequestExportWriter writer;
+
+    private RequestDto getRequest(Long id) {
+        var requestDto = new RequestDto();
+        requestDto.setId(id);
+        requestDto.setArea("area " + id);
+        requestDto.setRequestType(RequestType.MASTERS_DEGREE);
+        requestDto.setWorkload(10);
+        requestDto.setTotalCost(100f);
+        requestDto.setRequestStatus(RequestStatus.CREATED);
+        requestDto.setRequestDate(LocalDateTime.of(2024, 1, 1, 10, 0));
+        requestDto.setOwnerId(1L);
+
+        return requestDto;
+    }
+
+    private String write(ExportFormat format) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        writer.write(Stream.of(getRequest(1L), getRequest(2L)), format, outputStream);
+
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testWriteJson() throws IOException {
+        var json = write(ExportFormat.JSON);
+
+        assertTrue(json.startsWith("[{"));
+        assertTrue(json.endsWith("}]"));
+        assertTrue(json.contains("\"area\":\"area 1\""));
+        assertTrue(json.contains("\"area\":\"area 2\""));
+    }
+
+    @Test
+    void testWriteEmptyJson() throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        writer.write(Stream.empty(), ExportFormat.JSON, outputStream);
+
+        assertEquals(outputStream.toString(StandardCharsets.UTF_8), "[]");
+    }
+
+    @Test
+    void testWriteNdjson() throws IOException {
+        var lines = write(ExportFormat.NDJSON).split("\n");
+
+        assertEquals(lines.length, 2);
+        assertTrue(lines[0].contains("\"id\":1"));
+        assertTrue(lines[1].contains("\"id\":2"));
+    }
+
+    @Test
+    void testWriteCsv() throws IOException {
+        var lines = write(ExportFormat.CSV).split("\n");
+
+        assertEquals(lines.length, 3);
+        assertEquals(lines[0], "id,area,requestType,workload,totalCost,requestStatus,requestDate,ownerId,disapproveReason");
+        assertEquals(lines[1], "1,\"area 1\",MASTERS_DEGREE,10,100.0,CREATED,2024-01-01T10:00:00,1,");
+        assertEquals(lines[2], "2,\"area 2\",MASTERS_DEGREE,10,100.0,CREATED,2024-01-01T10:00:00,1,");
+    }
+}
@@ -0,0 +1,120 @@
+package request.management.project.security.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import request.management.project.model.User;
+import request.management.project.model.UserType;
+import request.management.project.security.services.UserDetailsImpl;
+import request.management.project.security.services.UserDetailsServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+public class AuthTokenFilterTest {
+    @Autowired
+    private AuthTokenFilter authTokenFilter;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    private UserDetailsImpl getUserDetails() {
+        var user = new User();
+        user.setId(3L);
+        user.setUsername("username");
+        user.setPassword("password");
+        user.setUserType(UserType.TECHNICIAN);
+
+        return UserDetailsImpl.build(user);
+    }
+
+    private MockHttpServletRequest getRequest() {
+        var userDetails = getUserDetails();
+        var token = jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        var request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        return request;
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+        ReflectionTestUtils.setField(authTokenFilter, "statelessAuthentication", false);
+    }
+
+    @Test
+    void doFilterShouldLoadTheUserWhenStatelessAuthenticationIsDisabled() throws Exception {
+        when(userDetailsService.loadUserByUsername("username")).thenReturn(getUserDetails());
+
+        authTokenFilter.doFilter(getRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        var principal = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        assertEquals(principal.getId(), 3L);
+        verify(userDetailsService).loadUserByUsername("username");
+    }
+
+    @Test
+    void doFilterShouldBuildThePrincipalFromClaimsWhenStatelessAuthenticationIsEnabled() throws Exception {
+        ReflectionTestUtils.setField(authTokenFilter, "statelessAuthentication", true);
+
+        authTokenFilter.doFilter(getRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        var principal = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        assertEquals(principal.getId(), 3L);
+        assertEquals(principal.getUserType(), UserType.TECHNICIAN);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilterShouldNotAuthenticateWithoutToken() throws Exception {
+        authTokenFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterShouldNotAuthenticateWithInvalidToken() throws Exception {
+        var request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer invalid.token.value");
+
+        authTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilterShouldTimeTokenParsingAndUserLookup() throws Exception {
+        when(userDetailsService.loadUserByUsername("username")).thenReturn(getUserDetails());
+
+        var parseTimer = meterRegistry.timer("auth.token.parse");
+        var lookupTimer = meterRegistry.timer("auth.user.lookup", "source", "database");
+        var parsed = parseTimer.count();
+        var lookedUp = lookupTimer.count();
+
+        authTokenFilter.doFilter(getRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(parseTimer.count(), parsed + 1);
+        assertEquals(lookupTimer.count(), lookedUp + 1);
+    }
+}
@@ -0,0 +1,86 @@
+package request.management.project.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import request.management.project.model.User;
+import request.management.project.model.UserType;
+import request.management.project.security.services.UserDetailsImpl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class JwtUtilsTest {
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Value("${project.jwtExpirationMs}")
+    private int jwtExpirationMs;
+
+    private String generateToken() {
+        var user = new User();
+        user.setId(7L);
+        user.setUsername("username");
+        user.setPassword("password");
+        user.setUserType(UserType.TEACHER);
+
+        var userDetails = UserDetailsImpl.build(user);
+
+        return jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @Test
+    void testGenerateAndValidateToken() {
+        var token = generateToken();
+
+        assertTrue(jwtUtils.validateToken(token));
+        assertEquals(jwtUtils.getUserNameFromJwtToken(token), "username");
+    }
+
+    @Test
+    void validateTokenShouldReturnFalseWhenTokenIsInvalid() {
+        assertFalse(jwtUtils.validateToken("invalid.token.value"));
+        assertFalse(jwtUtils.validateToken(generateToken() + "tampered"));
+    }
+
+    @Test
+    void testParseAndValidate() {
+        var result = jwtUtils.parseAndValidate(generateToken());
+
+        assertTrue(result.isValid());
+        assertNull(result.getError());
+        assertEquals(result.getClaims().getSubject(), "username");
+    }
+
+    @Test
+    void parseAndValidateShouldReturnTypedErrorWhenTokenIsInvalid() {
+        assertEquals(jwtUtils.parseAndValidate(null).getError(), JwtValidationError.EMPTY);
+        assertEquals(jwtUtils.parseAndValidate(" ").getError(), JwtValidationError.EMPTY);
+        assertEquals(jwtUtils.parseAndValidate("invalid.token.value").getError(), JwtValidationError.MALFORMED);
+        assertEquals(jwtUtils.parseAndValidate(generateToken() + "tampered").getError(), JwtValidationError.INVALID_SIGNATURE);
+        assertNull(jwtUtils.parseAndValidate("invalid.token.value").getClaims());
+    }
+
+    @Test
+    void parseAndValidateShouldReturnExpiredWhenTokenIsExpired() {
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", -1000);
+
+        try {
+            assertEquals(jwtUtils.parseAndValidate(generateToken()).getError(), JwtValidationError.EXPIRED);
+        } finally {
+            ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", jwtExpirationMs);
+        }
+    }
+
+    @Test
+    void testGetUserDetailsFromClaims() {
+        var userDetails = jwtUtils.getUserDetailsFromClaims(jwtUtils.parseAndValidate(generateToken()).getClaims());
+
+        assertEquals(userDetails.getId(), 7L);
+        assertEquals(userDetails.getUsername(), "username");
+        assertEquals(userDetails.getUserType(), UserType.TEACHER);
+    }
+}
@@ -1,9 +1,11 @@
 package request.management.project.security.services;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
 import request.management.project.model.User;
 import request.management.project.model.UserType;
 import request.management.project.repository.UserRepository;
@@ -11,7 +13,8 @@ import request.management.project.repository.UserRepository;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 public class UserDetailServiceImplTest {
@@ -21,6 +24,14 @@ public class UserDetailServiceImplTest {
     @Autowired
     private UserDetailsServiceImpl service;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearPrincipalCache() {
+        cacheManager.getCache(UserDetailsServiceImpl.PRINCIPAL_CACHE).clear();
+    }
+
     @Test
     void testLoadUserByUsername() {
         Long id = 1L;
@@ -44,6 +55,24 @@ public class UserDetailServiceImplTest {
         assertEquals(loadedUser.getUsername(), username);
         assertEquals(loadedUser.getPassword(), password);
         assertEquals(loadedUser.getAuthorities().stream().toList().get(0).toString(), UserType.ADMIN.name());
+    }
+
+    @Test
+    void loadUserByUsernameShouldUseThePrincipalCache() {
+        String username = "cachedUsername";
+
+        var user = new User();
+        user.setId(2L);
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setUserType(UserType.TEACHER);
+
+        when(repository.findByUsername(username)).thenReturn(Optional.of(user));
+
+        var firstLoad = service.loadUserByUsername(username);
+        var secondLoad = service.loadUserByUsername(username);
 
+        assertSame(firstLoad, secondLoad);
+        verify(repository, times(1)).findByUsername(username);
     }
 }
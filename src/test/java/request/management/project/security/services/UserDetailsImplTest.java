@@ -6,6 +6,7 @@ import request.management.project.model.User;
 import request.management.project.model.UserType;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
@@ -37,4 +38,18 @@ public class UserDetailsImplTest {
         assertTrue(userDetails.isCredentialsNonExpired());
         assertTrue(userDetails.isEnabled());
     }
+
+    @Test
+    void testBuildFromClaims() {
+        Long id = 1L;
+        String username = "username";
+
+        var userDetails = UserDetailsImpl.build(id, username, UserType.TECHNICIAN);
+
+        assertEquals(userDetails.getId(), id);
+        assertEquals(userDetails.getUsername(), username);
+        assertEquals(userDetails.getUserType(), UserType.TECHNICIAN);
+        assertEquals(userDetails.getAuthorities().stream().toList().get(0).toString(), UserType.TECHNICIAN.name());
+        assertNull(userDetails.getPassword());
+    }
 }
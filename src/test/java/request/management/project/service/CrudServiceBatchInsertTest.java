@@ -0,0 +1,82 @@
+package request.management.project.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.dto.RequestDto;
+import request.management.project.model.*;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CrudServiceBatchInsertTest {
+    private static final int REQUESTS = 120;
+
+    @Autowired
+    private RequestService service;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    private User owner;
+
+    @AfterEach
+    void deleteCreated() {
+        requestRepository.deleteAllById(createdIds);
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void createAllShouldBatchInserts() {
+        owner = new User();
+        owner.setUsername("batch-owner");
+        owner.setCpf("000.000.000-00");
+        owner.setEmail("batch@email.com");
+        owner.setRegistrationNumber("0000");
+        owner.setName("owner");
+        owner.setPassword("password");
+        owner.setBirthDate(LocalDate.now());
+        owner.setUserType(UserType.TEACHER);
+        owner = userRepository.save(owner);
+
+        var dtos = IntStream.range(0, REQUESTS).mapToObj(i -> {
+            var dto = new RequestDto();
+            dto.setArea("area " + i);
+            dto.setRequestType(RequestType.POSTGRADUATE);
+            dto.setWorkload(i);
+            dto.setTotalCost(100F);
+            dto.setRequestStatus(RequestStatus.CREATED);
+            dto.setOwnerId(owner.getId());
+            return dto;
+        }).toList();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var created = service.createAll(dtos);
+        created.forEach(dto -> createdIds.add(dto.getId()));
+
+        assertEquals(created.size(), REQUESTS);
+        assertEquals(statistics.getEntityInsertCount(), (long) REQUESTS);
+        assertTrue(statistics.getPrepareStatementCount() < REQUESTS / 10, "Prepared statements: " + statistics.getPrepareStatementCount());
+    }
+}
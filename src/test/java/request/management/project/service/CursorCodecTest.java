@@ -0,0 +1,68 @@
+package request.management.project.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import request.management.project.exceptions.InvalidCursorException;
+import request.management.project.model.Request;
+import request.management.project.model.User;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class CursorCodecTest {
+    @Autowired
+    private CursorCodec cursorCodec;
+
+    @Test
+    void testEncodeAndDecode() throws InvalidCursorException {
+        var requestDate = LocalDateTime.of(2024, 1, 1, 10, 30);
+
+        var cursor = cursorCodec.encode(ScrollPosition.forward(Map.of("requestDate", requestDate, "id", 10L)));
+        var position = cursorCodec.decode(cursor, Request.class, "requestDate");
+
+        assertEquals(position.getKeys().get("requestDate"), requestDate);
+        assertEquals(position.getKeys().get("id"), 10L);
+    }
+
+    @Test
+    void testEncodeInitialPosition() {
+        assertNull(cursorCodec.encode(ScrollPosition.keyset()));
+    }
+
+    @Test
+    void testDecodeEmptyCursor() throws InvalidCursorException {
+        assertTrue(cursorCodec.decode(null, Request.class, "id").isInitial());
+    }
+
+    @Test
+    void decodeShouldThrowInvalidCursorExceptionWhenCursorIsMalformed() {
+        assertThrows(InvalidCursorException.class, () -> cursorCodec.decode("not a cursor", Request.class, "id"));
+    }
+
+    @Test
+    void decodeShouldThrowInvalidCursorExceptionWhenPropertyDoesNotMatch() {
+        var cursor = cursorCodec.encode(ScrollPosition.forward(Map.of("area", "area", "id", 10L)));
+
+        assertThrows(InvalidCursorException.class, () -> cursorCodec.decode(cursor, Request.class, "requestDate"));
+    }
+
+    @Test
+    void decodeShouldThrowInvalidCursorExceptionWhenPropertyIsNullable() {
+        var exception = assertThrows(InvalidCursorException.class, () -> cursorCodec.decode(null, Request.class, "disapproveReason"));
+
+        assertEquals(exception.getMessage(), "Cursor pagination can't sort by the nullable property disapproveReason");
+        assertThrows(InvalidCursorException.class, () -> cursorCodec.decode(null, User.class, "gender"));
+    }
+
+    @Test
+    void sortShouldBreakTiesById() {
+        assertEquals(cursorCodec.sort(Sort.Direction.DESC, "requestDate"), Sort.by(Sort.Direction.DESC, "requestDate", "id"));
+        assertEquals(cursorCodec.sort(Sort.Direction.ASC, "id"), Sort.by(Sort.Direction.ASC, "id"));
+    }
+}
@@ -0,0 +1,212 @@
+package request.management.project.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import request.management.project.dto.ImportErrorDto;
+import request.management.project.dto.RequestDto;
+import request.management.project.model.*;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.UserRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class ImportServiceTest {
+    @Autowired
+    private ImportService service;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void deleteImported() {
+        requestRepository.deleteAll(requestRepository.findAll().stream().filter(request -> request.getArea().startsWith("import")).toList());
+        userRepository.deleteAll(userRepository.findAll().stream().filter(user -> user.getUsername().startsWith("import")).toList());
+    }
+
+    private ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private User saveOwner() {
+        var owner = new User();
+        owner.setUsername("import-owner");
+        owner.setCpf("529.982.247-25");
+        owner.setEmail("import-owner@email.com");
+        owner.setRegistrationNumber("0000");
+        owner.setName("owner");
+        owner.setPassword("password");
+        owner.setBirthDate(LocalDate.now());
+        owner.setUserType(UserType.TEACHER);
+
+        return userRepository.save(owner);
+    }
+
+    @Test
+    void importUsersShouldImportValidRowsAndReportInvalidOnes() throws IOException {
+        var csv = """
+                username,cpf,email,registrationNumber,name,password,birthDate,gender,userType
+                import-first,12345678909,import-first@email.com,1,First,secret,2000-01-01,MALE,TEACHER
+                import-second,123.456.789-00,import-second@email.com,2,Second,secret,2000-01-01,FEMALE,TEACHER
+                import-third,987.654.321-00,not-an-email,3,Third,secret,2000-01-01,FEMALE,TEACHER
+                import-fourth,111.444.777-35,import-fourth@email.com,4,,secret,2000-01-01,FEMALE,TECHNICIAN
+                """;
+
+        var report = service.importUsers(input(csv), ImportFormat.CSV);
+
+        assertEquals(report.getTotal(), 4L);
+        assertEquals(report.getImported(), 1L);
+        assertEquals(report.getErrors(), List.of(
+                new ImportErrorDto(3, EnumMessage.INVALID_CPF.message()),
+                new ImportErrorDto(4, "Invalid email!"),
+                new ImportErrorDto(5, "name must not be blank")
+        ));
+
+        var imported = userRepository.findByUsername("import-first").orElseThrow();
+
+        assertEquals(imported.getCpf(), "123.456.789-09");
+        assertEquals(userRepository.findByCpfDigits(12345678909L).orElseThrow().getId(), imported.getId());
+        assertTrue(passwordEncoder.matches("secret", imported.getPassword()));
+    }
+
+    @Test
+    void importUsersShouldSkipUnreadableNdjsonRecords() throws IOException {
+        var ndjson = """
+                {"username":"import-first","cpf":"123.456.789-09","email":"import-first@email.com","registrationNumber":"1","name":"First","password":"secret","birthDate":"2000-01-01","userType":"TEACHER"}
+                {"username":"import-second","cpf":"987.654.321-00","birthDate":"not-a-date"}
+                {"username":"import-third","cpf":"111.444.777-35","email":"import-third@email.com","registrationNumber":"3","name":"Third","password":"secret","birthDate":"2000-01-01","userType":"TEACHER"}
+                """;
+
+        var report = service.importUsers(input(ndjson), ImportFormat.NDJSON);
+
+        assertEquals(report.getTotal(), 3L);
+        assertEquals(report.getImported(), 2L);
+        assertEquals(report.getErrors().size(), 1);
+        assertEquals(report.getErrors().get(0).getLine(), 2L);
+        assertTrue(userRepository.findByUsername("import-third").isPresent());
+    }
+
+    @Test
+    void importUsersShouldReportATruncatedNdjsonRecordOnce() throws IOException {
+        var ndjson = """
+                {"username":"import-first","cpf":"123.456.789-09","email":"import-first@email.com","registrationNumber":"1","name":"First","password":"secret","birthDate":"2000-01-01","userType":"TEACHER"}
+                {"username": tru
+                """;
+
+        var report = service.importUsers(input(ndjson), ImportFormat.NDJSON);
+
+        assertEquals(report.getTotal(), 2L);
+        assertEquals(report.getImported(), 1L);
+        assertEquals(report.getErrors(), List.of(new ImportErrorDto(2, "Unreadable record")));
+    }
+
+    @Test
+    void importUsersShouldHashThroughThePasswordHashingPool() throws IOException {
+        var encodes = meterRegistry.get("password.hashing").tag("operation", "encode").timer().count();
+        var csv = """
+                username,cpf,email,registrationNumber,name,password,birthDate,gender,userType
+                import-first,12345678909,import-first@email.com,1,First,secret,2000-01-01,MALE,TEACHER
+                import-second,111.444.777-35,import-second@email.com,2,Second,secret,2000-01-01,FEMALE,TEACHER
+                """;
+
+        var report = service.importUsers(input(csv), ImportFormat.CSV);
+
+        assertEquals(report.getImported(), 2L);
+        assertEquals(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count(), encodes + 2);
+    }
+
+    @Test
+    void importRequestsShouldForceTheOwnerAndStatus() throws IOException {
+        var owner = saveOwner();
+
+        var csv = """
+                area,requestType,workload,totalCost,requestStatus,ownerId
+                import area,POSTGRADUATE,10,100.5,APPROVED,999999
+                ,MASTERS_DEGREE,20,200,CREATED,
+                """;
+
+        var report = service.importRequests(input(csv), ImportFormat.CSV, owner.getId(), true);
+
+        assertEquals(report.getImported(), 1L);
+        assertEquals(report.getErrors(), List.of(new ImportErrorDto(3, "area must not be blank")));
+
+        var imported = requestRepository.findAllByOwnerId(owner.getId(), org.springframework.data.domain.Sort.by("id"), RequestDto.class);
+
+        assertEquals(imported.size(), 1);
+        assertEquals(imported.get(0).getRequestStatus(), RequestStatus.CREATED);
+        assertNotNull(imported.get(0).getRequestDate());
+    }
+
+    @Test
+    void importRequestsShouldReportRowsRejectedByTheDatabase() throws IOException {
+        var owner = saveOwner();
+
+        var csv = """
+                area,requestType,workload,totalCost,ownerId
+                import first,POSTGRADUATE,10,100,
+                import second,POSTGRADUATE,10,100,999999
+                """;
+
+        var report = service.importRequests(input(csv), ImportFormat.CSV, owner.getId(), false);
+
+        assertEquals(report.getImported(), 1L);
+        assertEquals(report.getErrors(), List.of(new ImportErrorDto(3, EnumMessage.CONSTRAINT_VIOLATION_MESSAGE.message())));
+    }
+
+    @Test
+    void importRequestsShouldReportTheLineOfRecordsAfterMultilineFields() throws IOException {
+        var owner = saveOwner();
+
+        var csv = """
+                area,requestType,workload,totalCost
+                "import area
+                spanning two lines",POSTGRADUATE,10,100
+                ,MASTERS_DEGREE,20,200
+                """;
+
+        var report = service.importRequests(input(csv), ImportFormat.CSV, owner.getId(), true);
+
+        assertEquals(report.getTotal(), 2L);
+        assertEquals(report.getImported(), 1L);
+        assertEquals(report.getErrors(), List.of(new ImportErrorDto(4, "area must not be blank")));
+    }
+
+    @Test
+    void importUsersShouldReportTheLineOfNdjsonRecordsAfterBlankLines() throws IOException {
+        var ndjson = """
+                {"username":"import-first","cpf":"123.456.789-09","email":"import-first@email.com","registrationNumber":"1","name":"First","password":"secret","birthDate":"2000-01-01","userType":"TEACHER"}
+
+                {"username":"import-second","cpf":"987.654.321-00","birthDate":"not-a-date"}
+
+                {"username":"import-third","cpf":"111.444.777-35","email":"not-an-email","registrationNumber":"3","name":"Third","password":"secret","birthDate":"2000-01-01","userType":"TEACHER"}
+                """;
+
+        var report = service.importUsers(input(ndjson), ImportFormat.NDJSON);
+
+        assertEquals(report.getTotal(), 3L);
+        assertEquals(report.getImported(), 1L);
+        assertEquals(report.getErrors(), List.of(
+                new ImportErrorDto(3, "Unreadable record"),
+                new ImportErrorDto(5, "Invalid email!")
+        ));
+    }
+}
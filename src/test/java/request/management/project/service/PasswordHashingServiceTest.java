@@ -0,0 +1,120 @@
+package request.management.project.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import request.management.project.exceptions.PasswordHashingBusyException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+public class PasswordHashingServiceTest {
+    @Autowired
+    private PasswordHashingService service;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private PasswordHashingService getService(PasswordEncoder passwordEncoder, MeterRegistry registry, int threads, int queueCapacity, long timeoutMs) {
+        var hashingService = new PasswordHashingService();
+        ReflectionTestUtils.setField(hashingService, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(hashingService, "meterRegistry", registry);
+        ReflectionTestUtils.setField(hashingService, "threads", threads);
+        ReflectionTestUtils.setField(hashingService, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(hashingService, "timeoutMs", timeoutMs);
+        hashingService.init();
+
+        return hashingService;
+    }
+
+    @Test
+    void testEncodeAndMatches() throws PasswordHashingBusyException {
+        var encoded = service.encode("password");
+
+        assertNotEquals(encoded, "password");
+        assertTrue(service.matches("password", encoded));
+        assertFalse(service.matches("other password", encoded));
+        assertTrue(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count() > 0);
+        assertTrue(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count() > 1);
+        assertTrue(meterRegistry.get("password.hashing.queue.wait").timer().count() > 2);
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() throws Exception {
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var passwordEncoder = mock(PasswordEncoder.class);
+        var registry = new SimpleMeterRegistry();
+
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+
+        var hashingService = getService(passwordEncoder, registry, 1, 1, 5000);
+
+        try {
+            var running = CompletableFuture.supplyAsync(() -> encodeQuietly(hashingService));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            var queued = CompletableFuture.supplyAsync(() -> encodeQuietly(hashingService));
+
+            while (registry.get("password.hashing.queue.size").gauge().value() < 1) {
+                Thread.sleep(10);
+            }
+
+            assertThrows(PasswordHashingBusyException.class, () -> hashingService.encode("password"));
+            assertEquals(registry.get("password.hashing.rejected").counter().count(), 1.0);
+
+            release.countDown();
+
+            assertEquals(running.get(5, TimeUnit.SECONDS), "encoded");
+            assertEquals(queued.get(5, TimeUnit.SECONDS), "encoded");
+        } finally {
+            release.countDown();
+            hashingService.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectsWhenHashingTimesOut() throws Exception {
+        var release = new CountDownLatch(1);
+        var passwordEncoder = mock(PasswordEncoder.class);
+        var registry = new SimpleMeterRegistry();
+
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+
+        var hashingService = getService(passwordEncoder, registry, 1, 1, 50);
+
+        try {
+            assertThrows(PasswordHashingBusyException.class, () -> hashingService.matches("password", "encoded"));
+            assertEquals(registry.get("password.hashing.rejected").counter().count(), 1.0);
+        } finally {
+            release.countDown();
+            hashingService.shutdown();
+        }
+    }
+
+    private String encodeQuietly(PasswordHashingService hashingService) {
+        try {
+            return hashingService.encode("password");
+        } catch (PasswordHashingBusyException exception) {
+            return null;
+        }
+    }
+}
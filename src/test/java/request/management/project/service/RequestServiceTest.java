@@ -1,27 +1,44 @@
 package request.management.project.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import request.management.project.dto.RequestDto;
+import request.management.project.dto.RequestStatsDto;
+import request.management.project.dto.RequestSummaryDto;
+import request.management.project.dto.TransitionResultDto;
 import request.management.project.dto.UserDto;
 import request.management.project.exceptions.EmptyReasonException;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.exceptions.RequestAlreadyApprovedException;
 import request.management.project.exceptions.RequestAlreadyUnapprovedException;
 import request.management.project.mapper.GenericMapper;
 import request.management.project.model.*;
 import request.management.project.repository.RequestRepository;
+import request.management.project.repository.RequestStatsRepository;
+import request.management.project.repository.RequestStatsTotalRepository;
+import request.management.project.repository.RequestStatusView;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 public class RequestServiceTest {
@@ -34,9 +51,21 @@ public class RequestServiceTest {
     @Autowired
     private GenericMapper<UserDto, User> userMapper;
 
+    @Autowired
+    private CursorCodec cursorCodec;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private RequestRepository repository;
 
+    @MockBean
+    private RequestStatsRepository statsRepository;
+
+    @MockBean
+    private RequestStatsTotalRepository statsTotalRepository;
+
     @Test
     void testFind() {
         var requestDto = new RequestDto();
@@ -58,12 +87,67 @@ public class RequestServiceTest {
         var direction = Sort.Direction.ASC;
         String property = "id";
 
-        when(repository.findAll(Sort.by(direction, property))).thenReturn(List.of(mapper.toEntity(requestDto)));
+        when(repository.findAllBy(Sort.by(direction, property), RequestDto.class)).thenReturn(List.of(requestDto));
 
         var foundRequests = service.findAll(direction, property);
 
         assertEquals(foundRequests.get(0), requestDto);
         assertEquals(foundRequests.get(0).getId(), requestDto.getId());
+        verify(repository, never()).findAll(any(Sort.class));
+    }
+
+    @Test
+    void testFindAllWithCursor() throws InvalidCursorException {
+        var requestDto = new RequestDto();
+        requestDto.setId(1L);
+
+        var direction = Sort.Direction.ASC;
+        String property = "id";
+
+        when(repository.findAllBy(ScrollPosition.keyset(), Sort.by(direction, property), Limit.of(CrudService.DEFAULT_PAGE_SIZE)))
+                .thenReturn(Window.from(List.of(mapper.toEntity(requestDto)), index -> ScrollPosition.forward(Map.of("id", 1L)), true));
+
+        var page = service.findAll(direction, property, null, null);
+
+        assertEquals(page.getContent().get(0), requestDto);
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void testFindAllWithCursorShouldLimitThePageSize() throws InvalidCursorException {
+        var direction = Sort.Direction.ASC;
+        String property = "id";
+
+        when(repository.findAllBy(ScrollPosition.keyset(), Sort.by(direction, property), Limit.of(CrudService.MAX_PAGE_SIZE)))
+                .thenReturn(Window.from(List.of(), index -> ScrollPosition.keyset(), false));
+
+        var page = service.findAll(direction, property, null, CrudService.MAX_PAGE_SIZE + 1);
+
+        assertTrue(page.getContent().isEmpty());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testFindAllWithCursorShouldBreakTiesById() throws InvalidCursorException {
+        var direction = Sort.Direction.DESC;
+        String property = "requestDate";
+
+        when(repository.findAllBy(ScrollPosition.keyset(), Sort.by(direction, property).and(Sort.by(direction, "id")), Limit.of(10)))
+                .thenReturn(Window.from(List.of(), index -> ScrollPosition.keyset(), false));
+
+        var page = service.findAll(direction, property, null, 10);
+
+        assertTrue(page.getContent().isEmpty());
+        verify(repository).findAllBy(ScrollPosition.keyset(), Sort.by(direction, property).and(Sort.by(direction, "id")), Limit.of(10));
+    }
+
+    @Test
+    void findAllWithCursorShouldThrowInvalidCursorException() {
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class, () -> service.findAll(Sort.Direction.ASC, "id", "invalid", 10));
+
+        assertEquals(exception.getMessage(), "Invalid pagination cursor");
     }
 
     @Test
@@ -140,17 +224,42 @@ public class RequestServiceTest {
         var updatedRequest = new RequestDto();
         updatedRequest.setId(id);
         updatedRequest.setRequestStatus(RequestStatus.APPROVED);
+        updatedRequest.setRequestDate(requestDto.getRequestDate());
 
-        when(repository.findById(id)).thenReturn(Optional.of(mapper.toEntity(requestDto)));
-        when(repository.save(mapper.toEntity(updatedRequest))).thenReturn(mapper.toEntity(updatedRequest));
+        when(repository.transitionStatus(id, RequestStatus.CREATED, RequestStatus.APPROVED, null)).thenReturn(1);
+        when(repository.findById(id)).thenReturn(Optional.of(mapper.toEntity(updatedRequest)));
 
         var approvedRequest = service.approveRequest(id);
 
+        verify(repository, never()).save(any());
+
         assertEquals(approvedRequest, updatedRequest);
         assertEquals(approvedRequest.getId(), updatedRequest.getId());
         assertEquals(approvedRequest.getRequestStatus(), updatedRequest.getRequestStatus());
     }
 
+    @Test
+    void approveRequestShouldBeTimedAndCounted() throws RequestAlreadyApprovedException, RequestAlreadyUnapprovedException {
+        Long id = 1L;
+
+        var updatedRequest = new RequestDto();
+        updatedRequest.setId(id);
+        updatedRequest.setRequestStatus(RequestStatus.APPROVED);
+
+        var timer = meterRegistry.timer("service", "class", "RequestService", "method", "approveRequest", "exception", "none");
+        var counter = meterRegistry.counter("request.transitions", "outcome", TransitionOutcome.APPROVED.name());
+        var timed = timer.count();
+        var counted = counter.count();
+
+        when(repository.transitionStatus(id, RequestStatus.CREATED, RequestStatus.APPROVED, null)).thenReturn(1);
+        when(repository.findById(id)).thenReturn(Optional.of(mapper.toEntity(updatedRequest)));
+
+        service.approveRequest(id);
+
+        assertEquals(timer.count(), timed + 1);
+        assertEquals(counter.count(), counted + 1);
+    }
+
     @Test
     void approveRequestShouldThrowRequestAlreadyApprovedException() {
         Long id = 1L;
@@ -181,6 +290,13 @@ public class RequestServiceTest {
         assertEquals(exception.getMessage(), "Request already unapproved");
     }
 
+    @Test
+    void approveRequestShouldThrowNoSuchElementExceptionWhenRequestDoesNotExist() {
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class, () -> service.approveRequest(1L));
+    }
+
     @Test
     void testDisapproveRequest() throws RequestAlreadyApprovedException, RequestAlreadyUnapprovedException, EmptyReasonException {
         Long id = 1L;
@@ -194,12 +310,15 @@ public class RequestServiceTest {
         updatedRequest.setId(id);
         updatedRequest.setRequestStatus(RequestStatus.UNAPPROVED);
         updatedRequest.setDisapproveReason(reason.getReason());
+        updatedRequest.setRequestDate(requestDto.getRequestDate());
 
-        when(repository.findById(id)).thenReturn(Optional.of(mapper.toEntity(requestDto)));
-        when(repository.save(mapper.toEntity(updatedRequest))).thenReturn(mapper.toEntity(updatedRequest));
+        when(repository.transitionStatus(id, RequestStatus.CREATED, RequestStatus.UNAPPROVED, reason.getReason())).thenReturn(1);
+        when(repository.findById(id)).thenReturn(Optional.of(mapper.toEntity(updatedRequest)));
 
         var approvedRequest = service.disapproveRequest(id, reason);
 
+        verify(repository, never()).save(any());
+
         assertEquals(approvedRequest, updatedRequest);
         assertEquals(approvedRequest.getId(), updatedRequest.getId());
         assertEquals(approvedRequest.getRequestStatus(), updatedRequest.getRequestStatus());
@@ -251,13 +370,110 @@ public class RequestServiceTest {
         assertEquals(exception.getMessage(), "Request already unapproved");
     }
 
+    private RequestStatusView statusView(Long id, RequestStatus status) {
+        return new RequestStatusView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public RequestStatus getRequestStatus() {
+                return status;
+            }
+        };
+    }
+
+    @Test
+    void testApproveRequests() {
+        when(repository.findStatusesForUpdate(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                statusView(1L, RequestStatus.CREATED),
+                statusView(2L, RequestStatus.APPROVED),
+                statusView(3L, RequestStatus.UNAPPROVED)
+        ));
+
+        var results = service.approveRequests(List.of(1L, 2L, 3L, 4L, 1L));
+
+        assertEquals(results, List.of(
+                new TransitionResultDto(1L, TransitionOutcome.APPROVED),
+                new TransitionResultDto(2L, TransitionOutcome.ALREADY_APPROVED),
+                new TransitionResultDto(3L, TransitionOutcome.ALREADY_UNAPPROVED),
+                new TransitionResultDto(4L, TransitionOutcome.NOT_FOUND)
+        ));
+        verify(repository).transitionStatuses(List.of(1L), RequestStatus.CREATED, RequestStatus.APPROVED, null);
+    }
+
+    @Test
+    void testDisapproveRequests() {
+        when(repository.findStatusesForUpdate(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                statusView(1L, RequestStatus.CREATED),
+                statusView(2L, RequestStatus.CREATED),
+                statusView(3L, RequestStatus.CREATED),
+                statusView(4L, RequestStatus.APPROVED)
+        ));
+
+        var results = service.disapproveRequests(List.of(
+                new RequestDisapproval(1L, "reason"),
+                new RequestDisapproval(2L, ""),
+                new RequestDisapproval(3L, "reason"),
+                new RequestDisapproval(4L, "other reason")
+        ));
+
+        assertEquals(results, List.of(
+                new TransitionResultDto(1L, TransitionOutcome.UNAPPROVED),
+                new TransitionResultDto(2L, TransitionOutcome.EMPTY_REASON),
+                new TransitionResultDto(3L, TransitionOutcome.UNAPPROVED),
+                new TransitionResultDto(4L, TransitionOutcome.ALREADY_APPROVED)
+        ));
+        verify(repository).transitionStatuses(List.of(1L, 3L), RequestStatus.CREATED, RequestStatus.UNAPPROVED, "reason");
+        verify(repository, never()).transitionStatuses(any(), any(), any(), eq("other reason"));
+    }
+
+    @Test
+    void testSummarize() {
+        var summary = new RequestSummaryDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, "area", 2L, 200.0, 20L);
+
+        when(repository.summarize()).thenReturn(List.of(summary));
+
+        assertEquals(service.summarize(), List.of(summary));
+    }
+
+    @Test
+    void testSummarizeByOwner() {
+        Long ownerId = 1L;
+        var summary = new RequestSummaryDto(RequestStatus.APPROVED, RequestType.MASTERS_DEGREE, "area", 1L, 100.0, 10L);
+
+        when(repository.summarizeByOwnerId(ownerId)).thenReturn(List.of(summary));
+
+        assertEquals(service.summarizeByOwner(ownerId), List.of(summary));
+        verify(repository, never()).summarize();
+    }
+
+    @Test
+    void testListStats() {
+        var stats = new RequestStatsDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, 2L, 200.0, 20L);
+
+        when(statsTotalRepository.summarize()).thenReturn(List.of(stats));
+
+        assertEquals(service.listStats(), List.of(stats));
+        verify(repository, never()).summarize();
+    }
+
+    @Test
+    void testListStatsByOwner() {
+        Long ownerId = 1L;
+        var stats = new RequestStatsDto(RequestStatus.APPROVED, RequestType.MASTERS_DEGREE, 1L, 100.0, 10L);
+
+        when(statsRepository.summarizeByOwnerId(ownerId)).thenReturn(List.of(stats));
+
+        assertEquals(service.listStatsByOwner(ownerId), List.of(stats));
+        verify(repository, never()).summarizeByOwnerId(ownerId);
+    }
+
     @Test
     void testListAllByOwner() {
         Long id = 1L;
 
-        var owner = new UserDto();
-        owner.setId(id);
-
         var requestDto = new RequestDto();
         requestDto.setId(id);
         requestDto.setOwnerId(id);
@@ -265,12 +481,68 @@ public class RequestServiceTest {
         var direction = Sort.Direction.ASC;
         String property = "id";
 
-        when(repository.findAllByOwner(userMapper.toEntity(owner), Sort.by(direction, property))).thenReturn(List.of(mapper.toEntity(requestDto)));
+        when(repository.findAllByOwnerId(id, Sort.by(direction, property), RequestDto.class)).thenReturn(List.of(requestDto));
 
-        var requests = service.listAllByOwner(owner, direction, property);
+        var requests = service.listAllByOwner(id, direction, property);
 
         assertEquals(requests.get(0), requestDto);
         assertEquals(requests.get(0).getId(), requestDto.getId());
         assertEquals(requests.get(0).getOwnerId(), requestDto.getOwnerId());
     }
+
+    @Test
+    void testListAllByStatus() {
+        var requestDto = new RequestDto();
+        requestDto.setId(1L);
+        requestDto.setRequestStatus(RequestStatus.CREATED);
+
+        var direction = Sort.Direction.ASC;
+        String property = "id";
+
+        when(repository.findAllByRequestStatusIn(List.of(RequestStatus.CREATED), Sort.by(direction, property), RequestDto.class)).thenReturn(List.of(requestDto));
+
+        var requests = service.listAllByStatus(List.of(RequestStatus.CREATED), direction, property);
+
+        assertEquals(requests, List.of(requestDto));
+    }
+
+    @Test
+    void testListAllByStatusWithCursor() throws InvalidCursorException {
+        var requestDto = new RequestDto();
+        requestDto.setId(2L);
+        requestDto.setRequestStatus(RequestStatus.CREATED);
+
+        var direction = Sort.Direction.ASC;
+        String property = "id";
+        var cursor = cursorCodec.encode(ScrollPosition.forward(Map.of("id", 1L)));
+
+        when(repository.findAllByRequestStatusIn(List.of(RequestStatus.CREATED), ScrollPosition.forward(Map.of("id", 1L)), Sort.by(direction, property), Limit.of(10)))
+                .thenReturn(Window.from(List.of(mapper.toEntity(requestDto)), index -> ScrollPosition.forward(Map.of("id", 2L)), false));
+
+        var page = service.listAllByStatus(List.of(RequestStatus.CREATED), direction, property, cursor, 10);
+
+        assertEquals(page.getContent().get(0), requestDto);
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testExportByStatus() throws IOException {
+        var requestDto = new RequestDto();
+        requestDto.setId(1L);
+        requestDto.setRequestStatus(RequestStatus.CREATED);
+
+        var direction = Sort.Direction.ASC;
+        String property = "id";
+
+        when(repository.streamAllByRequestStatusIn(List.of(RequestStatus.CREATED), Sort.by(direction, property))).thenReturn(Stream.of(mapper.toEntity(requestDto)));
+
+        var outputStream = new ByteArrayOutputStream();
+        service.exportByStatus(List.of(RequestStatus.CREATED), direction, property, ExportFormat.NDJSON, outputStream);
+
+        var exported = outputStream.toString(StandardCharsets.UTF_8);
+
+        assertTrue(exported.contains("\"id\":1"));
+        assertTrue(exported.contains("\"requestStatus\":\"CREATED\""));
+    }
 }
@@ -0,0 +1,143 @@
+package request.management.project.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import request.management.project.dto.RequestDto;
+import request.management.project.dto.RequestStatsDto;
+import request.management.project.model.*;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.RequestStatsRepository;
+import request.management.project.repository.RequestStatsTotalRepository;
+import request.management.project.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class RequestStatsReconcilerTest {
+    @Autowired
+    private RequestStatsReconciler requestStatsReconciler;
+
+    @Autowired
+    private RequestStatsRepository requestStatsRepository;
+
+    @Autowired
+    private RequestStatsTotalRepository requestStatsTotalRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    private void saveRequest(RequestStatus status, RequestType type, int workload, float totalCost) {
+        var request = new Request();
+        request.setArea("stats area");
+        request.setRequestType(type);
+        request.setWorkload(workload);
+        request.setTotalCost(totalCost);
+        request.setRequestStatus(status);
+        request.setRequestDate(LocalDateTime.now());
+        request.setOwner(owner);
+
+        requestRepository.save(request);
+    }
+
+    private List<RequestStats> ownerStats() {
+        return requestStatsRepository.findAll().stream()
+                .filter(stats -> stats.getId().getOwnerId().equals(owner.getId()))
+                .sorted((first, second) -> first.getId().getRequestStatus().name().compareTo(second.getId().getRequestStatus().name()))
+                .toList();
+    }
+
+    @BeforeEach
+    void createRequests() {
+        owner = new User();
+        owner.setUsername("stats-owner");
+        owner.setCpf("529.982.247-25");
+        owner.setEmail("stats-owner@email.com");
+        owner.setRegistrationNumber("0000");
+        owner.setName("owner");
+        owner.setPassword("password");
+        owner.setBirthDate(LocalDate.now());
+        owner.setUserType(UserType.TEACHER);
+        owner = userRepository.save(owner);
+
+        saveRequest(RequestStatus.CREATED, RequestType.POSTGRADUATE, 10, 100.5f);
+        saveRequest(RequestStatus.CREATED, RequestType.POSTGRADUATE, 20, 200f);
+        saveRequest(RequestStatus.APPROVED, RequestType.POSTGRADUATE, 5, 50f);
+    }
+
+    @AfterEach
+    void deleteRequests() {
+        requestRepository.deleteAllById(requestRepository.findAllByOwnerId(owner.getId(), Sort.by("id"), RequestDto.class).stream().map(RequestDto::getId).toList());
+        userRepository.delete(owner);
+        requestStatsReconciler.reconcile();
+    }
+
+    @Test
+    void reconcileShouldCreateMissingStats() {
+        assertTrue(requestStatsReconciler.reconcile() >= 2);
+
+        var stats = ownerStats();
+
+        assertEquals(stats.size(), 2);
+        assertEquals(stats.get(0), new RequestStats(new RequestStatsId(owner.getId(), RequestStatus.APPROVED, RequestType.POSTGRADUATE), 1L, 50.0, 5L));
+        assertEquals(stats.get(1), new RequestStats(new RequestStatsId(owner.getId(), RequestStatus.CREATED, RequestType.POSTGRADUATE), 2L, 300.5, 30L));
+        assertEquals(requestStatsReconciler.reconcile(), 0);
+        assertEquals(requestStatsRepository.summarizeByOwnerId(owner.getId()), List.of(
+                new RequestStatsDto(RequestStatus.APPROVED, RequestType.POSTGRADUATE, 1L, 50.0, 5L),
+                new RequestStatsDto(RequestStatus.CREATED, RequestType.POSTGRADUATE, 2L, 300.5, 30L)
+        ));
+    }
+
+    @Test
+    void reconcileShouldRepairDriftedStats() {
+        requestStatsReconciler.reconcile();
+
+        var drifted = ownerStats().get(1);
+        drifted.setRequestCount(7L);
+        drifted.setTotalCost(1.0);
+        requestStatsRepository.save(drifted);
+
+        assertEquals(requestStatsReconciler.reconcile(owner.getId()), 1);
+        assertEquals(requestStatsReconciler.reconcile(owner.getId()), 0);
+        assertEquals(ownerStats().get(1).getRequestCount(), 2L);
+        assertEquals(ownerStats().get(1).getTotalCost(), 300.5);
+    }
+
+    @Test
+    void reconcileShouldDeleteStaleStats() {
+        requestStatsReconciler.reconcile();
+        requestRepository.deleteAllById(requestRepository.findAllByOwnerId(owner.getId(), Sort.by("id"), RequestDto.class).stream().map(RequestDto::getId).toList());
+
+        assertEquals(requestStatsReconciler.reconcile(), 4);
+        assertTrue(ownerStats().isEmpty());
+    }
+
+    @Test
+    void reconcileShouldRebuildTheTotalsFromTheOwnerStats() {
+        requestStatsReconciler.reconcile();
+
+        assertEquals(requestStatsTotalRepository.summarize(), requestStatsRepository.aggregateTotals());
+
+        var drifted = requestStatsTotalRepository.findById(new RequestStatsTotalId(RequestStatus.CREATED, RequestType.POSTGRADUATE)).orElseThrow();
+        drifted.setRequestCount(drifted.getRequestCount() + 7);
+        requestStatsTotalRepository.save(drifted);
+        requestStatsTotalRepository.save(new RequestStatsTotal(new RequestStatsTotalId(RequestStatus.UNAPPROVED, RequestType.MASTERS_DEGREE), 0L, 0.0, 0L));
+
+        assertTrue(requestStatsReconciler.reconcileTotals() >= 1);
+        assertEquals(requestStatsReconciler.reconcileTotals(), 0);
+        assertEquals(requestStatsTotalRepository.summarize(), requestStatsRepository.aggregateTotals());
+    }
+}
@@ -0,0 +1,135 @@
+package request.management.project.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import request.management.project.dto.TransitionResultDto;
+import request.management.project.exceptions.RequestAlreadyApprovedException;
+import request.management.project.exceptions.RequestAlreadyUnapprovedException;
+import request.management.project.model.*;
+import request.management.project.repository.RequestRepository;
+import request.management.project.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class RequestTransitionConcurrencyTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private RequestService service;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    private Long requestId;
+
+    @BeforeEach
+    void createRequest() {
+        owner = new User();
+        owner.setUsername("concurrency-owner");
+        owner.setCpf("000.000.000-00");
+        owner.setEmail("concurrency@email.com");
+        owner.setRegistrationNumber("0000");
+        owner.setName("owner");
+        owner.setPassword("password");
+        owner.setBirthDate(LocalDate.now());
+        owner.setUserType(UserType.TEACHER);
+        owner = userRepository.save(owner);
+
+        var request = new Request();
+        request.setArea("area");
+        request.setRequestType(RequestType.POSTGRADUATE);
+        request.setWorkload(10);
+        request.setTotalCost(100F);
+        request.setRequestStatus(RequestStatus.CREATED);
+        request.setRequestDate(LocalDateTime.now());
+        request.setOwner(owner);
+        requestId = requestRepository.save(request).getId();
+    }
+
+    @AfterEach
+    void deleteRequest() {
+        requestRepository.deleteById(requestId);
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void concurrentTransitionsShouldHaveExactlyOneWinner() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<Boolean>>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                boolean approve = i % 2 == 0;
+
+                Callable<Boolean> transition = () -> {
+                    start.await();
+
+                    try {
+                        if (approve) {
+                            service.approveRequest(requestId);
+                        } else {
+                            service.disapproveRequest(requestId, new DisapproveReason("reason"));
+                        }
+
+                        return true;
+                    } catch (RequestAlreadyApprovedException | RequestAlreadyUnapprovedException ignored) {
+                        return false;
+                    }
+                };
+
+                results.add(executor.submit(transition));
+            }
+
+            start.countDown();
+
+            int winners = 0;
+
+            for (var result : results) {
+                if (result.get())
+                    winners++;
+            }
+
+            assertEquals(winners, 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var status = requestRepository.findById(requestId).orElseThrow().getRequestStatus();
+
+        assertTrue(status == RequestStatus.APPROVED || status == RequestStatus.UNAPPROVED);
+    }
+
+    @Test
+    void bulkTransitionsShouldReportPerIdOutcomes() throws Exception {
+        service.approveRequest(requestId);
+
+        var results = service.disapproveRequests(List.of(new RequestDisapproval(requestId, "reason"), new RequestDisapproval(-1L, "reason")));
+
+        assertEquals(results, List.of(
+                new TransitionResultDto(requestId, TransitionOutcome.ALREADY_APPROVED),
+                new TransitionResultDto(-1L, TransitionOutcome.NOT_FOUND)
+        ));
+        assertEquals(requestRepository.findById(requestId).orElseThrow().getRequestStatus(), RequestStatus.APPROVED);
+    }
+}
@@ -5,24 +5,36 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import request.management.project.dto.RequestDto;
 import request.management.project.dto.UserDto;
+import request.management.project.dto.UserSummaryDto;
+import request.management.project.exceptions.InvalidCursorException;
 import request.management.project.mapper.GenericMapper;
 import request.management.project.mapper.UserMapper;
 import request.management.project.model.Gender;
+import request.management.project.model.LoginIdentifier;
 import request.management.project.model.User;
 import request.management.project.model.UserType;
+import request.management.project.repository.RequestRepository;
 import request.management.project.repository.UserRepository;
+import request.management.project.security.services.UserDetailsServiceImpl;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 public class UserServiceTest {
@@ -35,9 +47,15 @@ public class UserServiceTest {
     @MockBean
     private UserRepository repository;
 
+    @MockBean
+    private RequestRepository requestRepository;
+
     @MockBean
     private CPFValidator cpfValidator;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Test
     void testFind() {
         var userDto = new UserDto();
@@ -59,7 +77,7 @@ public class UserServiceTest {
         var direction = Sort.Direction.ASC;
         String property = "id";
 
-        when(repository.findAll(Sort.by(direction, property))).thenReturn(List.of(mapper.toEntity(userDto)));
+        when(repository.findAllWithRequestsBy(Sort.by(direction, property))).thenReturn(List.of(mapper.toEntity(userDto)));
 
         var foundUsers = service.findAll(direction, property);
 
@@ -67,6 +85,31 @@ public class UserServiceTest {
         assertEquals(foundUsers.get(0).getId(), userDto.getId());
     }
 
+    @Test
+    void testListSummaries() {
+        var summary = new UserSummaryDto(1L, "username", null, null, null, null, null, null, UserType.ADMIN);
+
+        when(repository.findAllBy(Sort.by(Sort.Direction.ASC, "id"), UserSummaryDto.class)).thenReturn(List.of(summary));
+
+        assertEquals(service.listSummaries(Sort.Direction.ASC, "id"), List.of(summary));
+    }
+
+    @Test
+    void testListSummariesWithCursor() throws InvalidCursorException {
+        var user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+
+        when(repository.findAllBy(ScrollPosition.keyset(), Sort.by(Sort.Direction.ASC, "id"), Limit.of(1)))
+                .thenReturn(Window.from(List.of(user), index -> ScrollPosition.forward(Map.of("id", 1L)), true));
+
+        var page = service.listSummaries(Sort.Direction.ASC, "id", null, 1);
+
+        assertEquals(page.getContent().get(0).getId(), 1L);
+        assertEquals(page.getContent().get(0).getUsername(), "username");
+        assertTrue(page.isHasNext());
+    }
+
     @Test
     void testCreate() {
         Long id = 1L;
@@ -86,6 +129,22 @@ public class UserServiceTest {
         assertEquals(savedUser.getCpf(), userDto.getCpf());
     }
 
+    @Test
+    void testCreateAll() {
+        String cpf = "000.000.000-00";
+
+        var userDto = new UserDto();
+        userDto.setId(1L);
+        userDto.setCpf(cpf);
+
+        when(repository.saveAll(List.of(mapper.toEntity(userDto)))).thenReturn(List.of(mapper.toEntity(userDto)));
+
+        var savedUsers = service.createAll(List.of(userDto));
+
+        assertEquals(savedUsers, List.of(userDto));
+        verify(cpfValidator).assertValid(cpf);
+    }
+
     @Test
     void testUpdate() {
         Long id = 1L;
@@ -143,6 +202,50 @@ public class UserServiceTest {
         doNothing().when(repository).deleteById(1L);
 
         service.delete(1L);
+
+        verify(requestRepository).deleteAllByOwnerId(1L);
+        verify(repository).deleteById(1L);
+    }
+
+    @Test
+    void updateShouldEvictThePrincipalCache() {
+        Long id = 1L;
+        String username = "username";
+
+        var userDto = new UserDto();
+        userDto.setId(id);
+        userDto.setUsername(username);
+
+        var principalCache = cacheManager.getCache(UserDetailsServiceImpl.PRINCIPAL_CACHE);
+        principalCache.put(username, "principal");
+
+        when(repository.findById(id)).thenReturn(Optional.of(mapper.toEntity(userDto)));
+        when(repository.save(any())).thenReturn(mapper.toEntity(userDto));
+
+        service.update(id, new UserDto());
+
+        assertNull(principalCache.get(username));
+    }
+
+    @Test
+    void deleteShouldEvictThePrincipalCache() {
+        Long id = 1L;
+        String username = "username";
+
+        var userDto = new UserDto();
+        userDto.setId(id);
+        userDto.setUsername(username);
+
+        var principalCache = cacheManager.getCache(UserDetailsServiceImpl.PRINCIPAL_CACHE);
+        principalCache.put(username, "principal");
+
+        when(repository.findById(id)).thenReturn(Optional.of(mapper.toEntity(userDto)));
+        doNothing().when(repository).deleteById(id);
+
+        service.delete(id);
+
+        assertNull(principalCache.get(username));
+        verify(repository).deleteById(id);
     }
 
     @Test
@@ -167,7 +270,7 @@ public class UserServiceTest {
         var userDto = new UserDto();
         userDto.setCpf(cpf);
 
-        when(repository.findByCpf(cpf)).thenReturn(Optional.of(mapper.toEntity(userDto)));
+        when(repository.findByCpfDigits(0L)).thenReturn(Optional.of(mapper.toEntity(userDto)));
 
         var foundUser = service.findByCpf(cpf);
 
@@ -204,4 +307,46 @@ public class UserServiceTest {
         assertEquals(foundUser, user);
         assertEquals(foundUser.getUsername(), user.getUsername());
     }
+
+    @Test
+    void testFindByLoginWithCpf() {
+        String cpf = "000.000.000-00";
+
+        var user = new User();
+        user.setCpf(cpf);
+
+        when(repository.findByCpfDigits(0L)).thenReturn(Optional.of(user));
+
+        var foundUser = service.findByLogin(LoginIdentifier.classify("00000000000"));
+
+        assertEquals(foundUser, user);
+        verify(cpfValidator).assertValid(cpf);
+        verify(repository, never()).findByUsername(any());
+    }
+
+    @Test
+    void testFindByLoginWithEmail() {
+        String email = "email@email.com";
+
+        var user = new User();
+        user.setEmail(email);
+
+        when(repository.findByEmail(email)).thenReturn(Optional.of(user));
+
+        assertEquals(service.findByLogin(LoginIdentifier.classify(email)), user);
+        verify(repository, never()).findByUsername(any());
+    }
+
+    @Test
+    void testFindByLoginWithUsername() {
+        String username = "username";
+
+        var user = new User();
+        user.setUsername(username);
+
+        when(repository.findByUsername(username)).thenReturn(Optional.of(user));
+
+        assertEquals(service.findByLogin(LoginIdentifier.classify(username)), user);
+        verify(repository, times(1)).findByUsername(username);
+    }
 }